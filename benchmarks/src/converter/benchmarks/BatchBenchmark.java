@@ -0,0 +1,98 @@
+package converter.benchmarks;
+
+import converter.BatchConverter;
+import converter.ElbonianArabicConverter;
+import converter.ElbonianTables;
+import converter.exceptions.FailureReason;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares converting a batch one ElbonianArabicConverter at a time with the BatchConverter loops. Every
+ * invocation converts a whole batch, and the scores are per numeral.
+ *
+ * @version 10/16/26
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchBenchmark {
+
+    private static final int SIZE = 100000;
+
+    private final int[] values = new int[SIZE];
+    private final String[] numerals = new String[SIZE];
+    private final int[] parsed = new int[SIZE];
+    private final char[] out = new char[SIZE * ElbonianTables.MAX_LENGTH];
+    private final int[] offsets = new int[SIZE + 1];
+    private final FailureReason[] reasons = new FailureReason[SIZE];
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(3733);
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = random.nextInt(ElbonianTables.MAX_VALUE) + 1;
+            numerals[i] = ElbonianTables.toElbonian(values[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int[] toArabicOneByOne() throws MalformedNumberException, ValueOutOfBoundsException {
+        for (int i = 0; i < SIZE; i++) {
+            parsed[i] = new ElbonianArabicConverter(numerals[i]).toArabic();
+        }
+        return parsed;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int toArabicBatch() {
+        return BatchConverter.toArabic(numerals, parsed, reasons);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int toArabicParallelBatch() {
+        return BatchConverter.parallelToArabic(numerals, parsed, reasons);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public String[] toElbonianOneByOne() throws MalformedNumberException, ValueOutOfBoundsException {
+        String[] result = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            result[i] = new ElbonianArabicConverter(Integer.toString(values[i])).toElbonian();
+        }
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int toElbonianBatch() {
+        return BatchConverter.toElbonian(values, out, offsets, reasons);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int toElbonianParallelBatch() {
+        return BatchConverter.parallelToElbonian(values, out, offsets, reasons);
+    }
+}
@@ -0,0 +1,82 @@
+package converter.benchmarks;
+
+import converter.ColumnValidator;
+import converter.ElbonianTables;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the scalar and the Vector API validation of ColumnValidator on a column of a million fields, one
+ * in four of them invalid. The vector runs are forked with the incubator module, once limited to AVX2 and
+ * once with AVX-512, and report the scalar speed on CPUs that have neither.
+ *
+ * @version 10/16/26
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ColumnValidatorBenchmark {
+
+    private static final int COUNT = 1 << 20;
+
+    @Param({"12", "16"})
+    private int width;
+
+    private byte[] column;
+    private boolean[] valid;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(3733);
+        column = new byte[COUNT * width];
+        Arrays.fill(column, (byte) ' ');
+        for (int field = 0; field < COUNT; field++) {
+            String numeral = ElbonianTables.toElbonian(random.nextInt(ElbonianTables.MAX_VALUE) + 1);
+            for (int i = 0; i < numeral.length(); i++) {
+                column[field * width + i] = (byte) numeral.charAt(i);
+            }
+            if (random.nextInt(4) == 0) {
+                column[field * width + random.nextInt(numeral.length())] = (byte) "IXCMEDZ7"
+                        .charAt(random.nextInt(8));
+            }
+        }
+        valid = new boolean[COUNT];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public int scalar() {
+        return ColumnValidator.validateScalar(column, 0, width, COUNT, valid);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    @Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector", "-XX:UseAVX=2"})
+    public int vectorAvx2() {
+        return ColumnValidator.validate(column, 0, width, COUNT, valid);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    @Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector", "-XX:UseAVX=3"})
+    public int vectorAvx512() {
+        return ColumnValidator.validate(column, 0, width, COUNT, valid);
+    }
+}
@@ -0,0 +1,137 @@
+package converter.benchmarks;
+
+import converter.ElbonianArabicConverter;
+import converter.ParseCache;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single threaded benchmarks of the ElbonianArabicConverter constructor and conversions, on the shortest and
+ * longest numerals of both forms, on Arabic numerals with commas and spaces and on inputs that are rejected.
+ *
+ * @version 10/16/26
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConverterBenchmark {
+
+    // The inputs are fields rather than constants so that the JIT cannot fold the conversions away
+    private String shortElbonian = "I";
+    private String longestElbonian = "MMECCZXXKII";
+    private String shortArabic = "1";
+    private String longestArabic = "2888";
+    private String commasAndSpaces = "   2,888   ";
+    private String malformedElbonian = "MMECCZXXKIII";
+    private String outOfBoundsArabic = "3000";
+
+    private ElbonianArabicConverter shortConverter;
+    private ElbonianArabicConverter longestConverter;
+    private final ParseCache cache = new ParseCache(1024);
+
+    @Setup
+    public void setUp() throws MalformedNumberException, ValueOutOfBoundsException {
+        shortConverter = new ElbonianArabicConverter(shortArabic);
+        longestConverter = new ElbonianArabicConverter(longestArabic);
+    }
+
+    @Benchmark
+    public ElbonianArabicConverter constructShortElbonian() throws MalformedNumberException, ValueOutOfBoundsException {
+        return new ElbonianArabicConverter(shortElbonian);
+    }
+
+    @Benchmark
+    public ElbonianArabicConverter constructLongestElbonian() throws MalformedNumberException, ValueOutOfBoundsException {
+        return new ElbonianArabicConverter(longestElbonian);
+    }
+
+    @Benchmark
+    public ElbonianArabicConverter constructShortArabic() throws MalformedNumberException, ValueOutOfBoundsException {
+        return new ElbonianArabicConverter(shortArabic);
+    }
+
+    @Benchmark
+    public ElbonianArabicConverter constructLongestArabic() throws MalformedNumberException, ValueOutOfBoundsException {
+        return new ElbonianArabicConverter(longestArabic);
+    }
+
+    @Benchmark
+    public ElbonianArabicConverter constructCommasAndSpaces() throws MalformedNumberException, ValueOutOfBoundsException {
+        return new ElbonianArabicConverter(commasAndSpaces);
+    }
+
+    @Benchmark
+    public int toArabicShort() {
+        return shortConverter.toArabic();
+    }
+
+    @Benchmark
+    public int toArabicLongest() {
+        return longestConverter.toArabic();
+    }
+
+    @Benchmark
+    public String toElbonianShort() {
+        return shortConverter.toElbonian();
+    }
+
+    @Benchmark
+    public String toElbonianLongest() {
+        return longestConverter.toElbonian();
+    }
+
+    @Benchmark
+    public Exception rejectMalformedElbonian() throws ValueOutOfBoundsException {
+        try {
+            new ElbonianArabicConverter(malformedElbonian);
+            throw new AssertionError(malformedElbonian + " was accepted");
+        } catch (MalformedNumberException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Exception rejectOutOfBoundsArabic() throws MalformedNumberException {
+        try {
+            new ElbonianArabicConverter(outOfBoundsArabic);
+            throw new AssertionError(outOfBoundsArabic + " was accepted");
+        } catch (ValueOutOfBoundsException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public long tryParseMalformedElbonian() {
+        return ElbonianArabicConverter.tryParse(malformedElbonian);
+    }
+
+    @Benchmark
+    public long tryParseCommasAndSpaces() {
+        return ElbonianArabicConverter.tryParse(commasAndSpaces);
+    }
+
+    @Benchmark
+    public long cachedCommasAndSpaces() {
+        return cache.tryParse(commasAndSpaces);
+    }
+
+    @Benchmark
+    public long cachedMalformedElbonian() {
+        return cache.tryParse(malformedElbonian);
+    }
+}
@@ -0,0 +1,252 @@
+package converter.benchmarks;
+
+import converter.Direction;
+import converter.ElbonianArabicConverter;
+import converter.ElbonianTables;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import converter.flow.Conversion;
+import converter.flow.ConversionProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares streaming numerals through ConversionProcessor in micro-batches of different sizes with a
+ * subscriber that requests one element at a time and converts it with the ElbonianArabicConverter
+ * constructor. One in ten numerals is malformed. In the synchronous benchmarks the publisher emits on the
+ * requesting thread, so only the cost of the signals and conversions is measured. In the asynchronous ones a
+ * SubmissionPublisher delivers the numerals on an executor thread, as in a pipeline.
+ *
+ * @version 10/16/26
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FlowBenchmark {
+
+    private static final int SIZE = 100000;
+
+    private String[] numbers;
+    private ExecutorService executor;
+
+    /**
+     * The batch size of the processor.
+     */
+    @State(Scope.Benchmark)
+    public static class Batch {
+
+        @Param({"1", "16", "256"})
+        private int size;
+    }
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(3733);
+        numbers = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            String numeral = ElbonianTables.toElbonian(random.nextInt(ElbonianTables.MAX_VALUE) + 1);
+            numbers[i] = random.nextInt(10) == 0 ? numeral + "I" + numeral : numeral;
+        }
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void perItem(Blackhole blackhole) {
+        new ArrayPublisher(numbers).subscribe(new PerItemSubscriber(blackhole));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void processor(Batch batch, Blackhole blackhole) {
+        ConversionProcessor processor = new ConversionProcessor(Direction.TO_ARABIC, false, batch.size);
+        processor.subscribe(new BatchSubscriber(batch.size, blackhole));
+        new ArrayPublisher(numbers).subscribe(processor);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void asyncPerItem(Blackhole blackhole) throws InterruptedException {
+        PerItemSubscriber subscriber = new PerItemSubscriber(blackhole);
+        publish(subscriber);
+        subscriber.done.await();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void asyncProcessor(Batch batch, Blackhole blackhole) throws InterruptedException {
+        ConversionProcessor processor = new ConversionProcessor(Direction.TO_ARABIC, false, batch.size);
+        BatchSubscriber subscriber = new BatchSubscriber(batch.size, blackhole);
+        processor.subscribe(subscriber);
+        publish(processor);
+        subscriber.done.await();
+    }
+
+    // Submits every numeral from this thread to a subscriber that receives them on the executor
+    private void publish(Flow.Subscriber<String> subscriber) {
+        try (SubmissionPublisher<String> publisher = new SubmissionPublisher<>(executor, 1024)) {
+            publisher.subscribe(subscriber);
+            for (String number : numbers) {
+                publisher.submit(number);
+            }
+        }
+    }
+
+    /**
+     * A subscriber that requests one numeral at a time and converts it with the ElbonianArabicConverter
+     * constructor.
+     */
+    private static final class PerItemSubscriber implements Flow.Subscriber<String> {
+
+        private final Blackhole blackhole;
+        private final CountDownLatch done = new CountDownLatch(1);
+        private Flow.Subscription subscription;
+
+        PerItemSubscriber(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(String item) {
+            try {
+                blackhole.consume(new ElbonianArabicConverter(item).toArabic());
+            } catch (MalformedNumberException | ValueOutOfBoundsException e) {
+                blackhole.consume(e);
+            }
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            done.countDown();
+        }
+    }
+
+    /**
+     * A subscriber of conversions that requests a batch at a time.
+     */
+    private static final class BatchSubscriber implements Flow.Subscriber<Conversion> {
+
+        private final int batchSize;
+        private final Blackhole blackhole;
+        private final CountDownLatch done = new CountDownLatch(1);
+        private Flow.Subscription subscription;
+        private int outstanding;
+
+        BatchSubscriber(int batchSize, Blackhole blackhole) {
+            this.batchSize = batchSize;
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            outstanding = batchSize;
+            subscription.request(batchSize);
+        }
+
+        @Override
+        public void onNext(Conversion item) {
+            blackhole.consume(item);
+            if (--outstanding == 0) {
+                outstanding = batchSize;
+                subscription.request(batchSize);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            done.countDown();
+        }
+    }
+
+    /**
+     * A publisher of an array that emits on the thread that requests, without recursion.
+     */
+    private static final class ArrayPublisher implements Flow.Publisher<String>, Flow.Subscription {
+
+        private final String[] items;
+        private Flow.Subscriber<? super String> subscriber;
+        private long requested;
+        private int next;
+        private boolean emitting;
+        private boolean cancelled;
+
+        ArrayPublisher(String[] items) {
+            this.items = items;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super String> subscriber) {
+            this.subscriber = subscriber;
+            subscriber.onSubscribe(this);
+        }
+
+        @Override
+        public void request(long n) {
+            requested += n;
+            if (emitting) {
+                return;
+            }
+            emitting = true;
+            while (requested > 0 && next < items.length && !cancelled) {
+                requested--;
+                subscriber.onNext(items[next++]);
+            }
+            if (next == items.length && !cancelled) {
+                cancelled = true;
+                subscriber.onComplete();
+            }
+            emitting = false;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+}
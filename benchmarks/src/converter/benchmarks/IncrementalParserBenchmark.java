@@ -0,0 +1,116 @@
+package converter.benchmarks;
+
+import converter.ElbonianArabicConverter;
+import converter.ElbonianTables;
+import converter.IncrementalParser;
+import converter.ParseResult;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares IncrementalParser with collecting every token into a String and building a converter for it, on
+ * 8 MB of newline separated numerals that arrive in reads of 1500 bytes, so tokens are split across reads.
+ * One token in ten is invalid and long, which the incremental parser rejects at its first bad character.
+ *
+ * @version 10/16/26
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = "-Xmx1g")
+@State(Scope.Benchmark)
+public class IncrementalParserBenchmark {
+
+    private static final int SIZE = 8 << 20;
+    private static final int READ_SIZE = 1500;
+
+    private final IncrementalParser parser = new IncrementalParser();
+    private final StringBuilder token = new StringBuilder();
+
+    private ByteBuffer stream;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(3733);
+        StringBuilder builder = new StringBuilder(SIZE + 128);
+        while (builder.length() < SIZE) {
+            int value = random.nextInt(ElbonianTables.MAX_VALUE) + 1;
+            switch (random.nextInt(10)) {
+                case 0:
+                    builder.append("MMMM");
+                    for (int i = 0; i < 60; i++) {
+                        builder.append((char) ('A' + random.nextInt(26)));
+                    }
+                    break;
+                case 1:
+                case 2:
+                    builder.append(value);
+                    break;
+                default:
+                    builder.append(ElbonianTables.toElbonian(value));
+            }
+            builder.append('\n');
+        }
+        stream = ByteBuffer.wrap(builder.toString().getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Benchmark
+    public long buffered() {
+        long sum = 0;
+        token.setLength(0);
+        for (int read = 0; read < stream.limit(); read += READ_SIZE) {
+            int end = Math.min(stream.limit(), read + READ_SIZE);
+            for (int i = read; i < end; i++) {
+                byte b = stream.get(i);
+                if (b == '\n') {
+                    try {
+                        sum += new ElbonianArabicConverter(token.toString()).toArabic();
+                    } catch (MalformedNumberException | ValueOutOfBoundsException e) {
+                        sum--;
+                    }
+                    token.setLength(0);
+                } else {
+                    token.append((char) b);
+                }
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long incremental() {
+        long sum = 0;
+        parser.reset();
+        for (int read = 0; read < stream.limit(); read += READ_SIZE) {
+            int end = Math.min(stream.limit(), read + READ_SIZE);
+            for (int i = read; i < end; i++) {
+                byte b = stream.get(i);
+                if (b == '\n') {
+                    long result = parser.result();
+                    sum += ParseResult.isSuccess(result) ? ParseResult.value(result) : -1;
+                    parser.reset();
+                } else {
+                    parser.accept(b);
+                }
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,60 @@
+package converter.benchmarks;
+
+import converter.ConversionMetrics;
+import converter.ElbonianArabicConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of ConversionMetrics by parsing with the metrics disabled and enabled.
+ *
+ * @version 10/16/26
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetricsBenchmark {
+
+    @Param({"false", "true"})
+    private boolean enabled;
+
+    private String longestElbonian = "MMECCZXXKII";
+    private String malformedElbonian = "MMECCZXXKIII";
+
+    @Setup
+    public void setUp() {
+        if (enabled) {
+            ConversionMetrics.enable();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        ConversionMetrics.disable();
+    }
+
+    @Benchmark
+    public long tryParseLongestElbonian() {
+        return ElbonianArabicConverter.tryParse(longestElbonian);
+    }
+
+    @Benchmark
+    public long tryParseMalformedElbonian() {
+        return ElbonianArabicConverter.tryParse(malformedElbonian);
+    }
+}
@@ -0,0 +1,139 @@
+package converter.benchmarks;
+
+import converter.ElbonianTables;
+import converter.NumeralCodec;
+import converter.ParseResult;
+import converter.exceptions.ValueOutOfBoundsException;
+import converter.io.PackedColumnReader;
+import converter.io.PackedColumnWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares scanning ten million values stored as newline separated Elbonian numerals with scanning them in
+ * a packed column file, both memory mapped. The values drift slowly, like readings taken over time, so a
+ * narrow range query can skip most blocks of the packed column.
+ *
+ * @version 10/16/26
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = "-Xmx1g")
+@State(Scope.Benchmark)
+public class PackedColumnBenchmark {
+
+    private static final int COUNT = 10_000_000;
+    private static final int QUERY_MIN = 1400;
+    private static final int QUERY_MAX = 1410;
+
+    private Path textFile;
+    private Path packedFile;
+    private MappedByteBuffer text;
+    private PackedColumnReader packed;
+    private final int[] chunk = new int[PackedColumnWriter.DEFAULT_BLOCK_SIZE];
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, ValueOutOfBoundsException {
+        textFile = Files.createTempFile("column", ".txt");
+        packedFile = Files.createTempFile("column", ".elbp");
+        Random random = new Random(3733);
+        int value = ElbonianTables.MAX_VALUE / 2;
+        try (BufferedWriter textWriter = Files.newBufferedWriter(textFile, StandardCharsets.US_ASCII);
+             PackedColumnWriter packedWriter = new PackedColumnWriter(packedFile, PackedColumnWriter.DEFAULT_BLOCK_SIZE)) {
+            for (int i = 0; i < COUNT; i++) {
+                value = Math.max(ElbonianTables.MIN_VALUE, Math.min(ElbonianTables.MAX_VALUE,
+                        value + random.nextInt(5) - 2));
+                textWriter.write(ElbonianTables.toElbonian(value));
+                textWriter.write('\n');
+                packedWriter.write(value);
+            }
+        }
+        try (FileChannel channel = FileChannel.open(textFile, StandardOpenOption.READ)) {
+            text = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        packed = new PackedColumnReader(packedFile);
+        System.out.println("text " + Files.size(textFile) + " bytes, packed " + Files.size(packedFile) + " bytes");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        packed.close();
+        Files.delete(textFile);
+        Files.delete(packedFile);
+    }
+
+    @Benchmark
+    public long scanText() {
+        long sum = 0;
+        int limit = text.limit();
+        int start = 0;
+        for (int i = 0; i < limit; i++) {
+            if (text.get(i) == '\n') {
+                sum += ParseResult.value(NumeralCodec.decode(text, start, i - start));
+                start = i + 1;
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long scanPacked() {
+        long sum = 0;
+        long size = packed.size();
+        for (long from = 0; from < size; from += chunk.length) {
+            int length = (int) Math.min(chunk.length, size - from);
+            packed.read(from, chunk, 0, length);
+            for (int i = 0; i < length; i++) {
+                sum += chunk[i];
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long queryText() {
+        long found = 0;
+        int limit = text.limit();
+        int start = 0;
+        for (int i = 0; i < limit; i++) {
+            if (text.get(i) == '\n') {
+                int value = ParseResult.value(NumeralCodec.decode(text, start, i - start));
+                if (value >= QUERY_MIN && value <= QUERY_MAX) {
+                    found++;
+                }
+                start = i + 1;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public long queryPacked() {
+        long[] found = new long[1];
+        packed.query(QUERY_MIN, QUERY_MAX, (index, value) -> found[0]++);
+        return found[0];
+    }
+}
@@ -0,0 +1,106 @@
+package converter.benchmarks;
+
+import converter.ElbonianArabicConverter;
+import converter.ElbonianScanner;
+import converter.ElbonianTables;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares ElbonianScanner with splitting the text at whitespace and building a converter for every token,
+ * on 16 MB of log like text in which one token in twenty is a numeral. Divide the size by the time for the
+ * throughput in MB/s.
+ *
+ * @version 10/16/26
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = "-Xmx1g")
+@State(Scope.Benchmark)
+public class ScannerBenchmark {
+
+    private static final int SIZE = 16 << 20;
+
+    private static final String[] WORDS = {"INFO", "request", "served", "in", "ms", "user=alice", "GET", "/index",
+            "Chapter", "ERROR", "id=4711", "the", "of", "Index:", "MIX", "and"};
+
+    private final ElbonianScanner scanner = new ElbonianScanner(ElbonianScanner.Boundary.WORD);
+
+    private String text;
+    private char[] chars;
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Random random = new Random(3733);
+        StringBuilder builder = new StringBuilder(SIZE + 64);
+        while (builder.length() < SIZE) {
+            if (random.nextInt(20) == 0) {
+                builder.append(ElbonianTables.toElbonian(random.nextInt(ElbonianTables.MAX_VALUE) + 1));
+            } else {
+                builder.append(WORDS[random.nextInt(WORDS.length)]);
+            }
+            builder.append(random.nextInt(12) == 0 ? '\n' : ' ');
+        }
+        text = builder.toString();
+        chars = text.toCharArray();
+        file = Files.createTempFile("scanner", ".txt");
+        Files.write(file, text.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.delete(file);
+    }
+
+    @Benchmark
+    public long scanString(Blackhole blackhole) {
+        return scanner.scan(text, (offset, length, value) -> blackhole.consume(value));
+    }
+
+    @Benchmark
+    public long scanChars(Blackhole blackhole) {
+        return scanner.scan(chars, 0, chars.length, (offset, length, value) -> blackhole.consume(value));
+    }
+
+    @Benchmark
+    public long scanFile(Blackhole blackhole) throws IOException {
+        return scanner.scan(file, (offset, length, value) -> blackhole.consume(value));
+    }
+
+    @Benchmark
+    public long tokenizeAndConvert(Blackhole blackhole) {
+        long matches = 0;
+        for (String token : text.split("\\s+")) {
+            try {
+                blackhole.consume(new ElbonianArabicConverter(token).toArabic());
+                matches++;
+            } catch (MalformedNumberException | ValueOutOfBoundsException e) {
+                blackhole.consume(e);
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,167 @@
+package converter.benchmarks;
+
+import converter.ElbonianTables;
+import converter.server.ConversionServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A localhost load test of ConversionServer. Every thread sends requests over kept alive connections and
+ * JMH samples the latency of every request, so the output includes the percentiles. Batch scores are per
+ * converted number. convertOneKeepAlive writes the request and reads the response on a plain socket, so its
+ * latency is that of the server rather than of the JDK HttpClient.
+ *
+ * @version 10/16/26
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+@Threads(4)
+@State(Scope.Benchmark)
+public class ServerBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private ConversionServer server;
+    private HttpClient client;
+    private HttpRequest single;
+    private HttpRequest batch;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = ConversionServer.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        String base = "http://localhost:" + server.getAddress().getPort();
+        single = HttpRequest.newBuilder(URI.create(base + "/to-arabic?number=MMECCZXXKII")).build();
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            body.append(ElbonianTables.toElbonian(i * 7 % ElbonianTables.MAX_VALUE + 1)).append('\n');
+        }
+        batch = HttpRequest.newBuilder(URI.create(base + "/to-arabic"))
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString())).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Benchmark
+    public String convertOne() throws IOException, InterruptedException {
+        return client.send(single, HttpResponse.BodyHandlers.ofString()).body();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public byte[] convertBatch() throws IOException, InterruptedException {
+        return client.send(batch, HttpResponse.BodyHandlers.ofByteArray()).body();
+    }
+
+    @Benchmark
+    public int convertOneKeepAlive(Connection connection) throws IOException {
+        return connection.exchange();
+    }
+
+    /**
+     * A kept alive connection of one thread, which sends a single conversion and reads the response by its
+     * content length.
+     */
+    @State(Scope.Thread)
+    public static class Connection {
+
+        private static final byte[] CONTENT_LENGTH = "content-length:".getBytes(StandardCharsets.US_ASCII);
+
+        private Socket socket;
+        private OutputStream out;
+        private InputStream in;
+        private byte[] request;
+        private final byte[] response = new byte[4096];
+
+        @Setup
+        public void setUp(ServerBenchmark benchmark) throws IOException {
+            socket = new Socket(InetAddress.getLoopbackAddress(), benchmark.server.getAddress().getPort());
+            socket.setTcpNoDelay(true);
+            out = socket.getOutputStream();
+            in = socket.getInputStream();
+            request = ("GET /to-arabic?number=MMECCZXXKII HTTP/1.1\r\nHost: localhost\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII);
+        }
+
+        @TearDown
+        public void tearDown() throws IOException {
+            socket.close();
+        }
+
+        // Sends the request and returns the number of bytes of the response
+        int exchange() throws IOException {
+            out.write(request);
+            out.flush();
+            int length = 0;
+            int headerEnd = -1;
+            int bodyLength = 0;
+            while (headerEnd < 0 || length < headerEnd + bodyLength) {
+                int read = in.read(response, length, response.length - length);
+                if (read < 0) {
+                    throw new IOException("Connection closed");
+                }
+                length += read;
+                if (headerEnd < 0) {
+                    for (int i = 3; i < length && headerEnd < 0; i++) {
+                        if (response[i - 3] == '\r' && response[i - 2] == '\n' && response[i - 1] == '\r'
+                                && response[i] == '\n') {
+                            headerEnd = i + 1;
+                            bodyLength = contentLength(headerEnd);
+                        }
+                    }
+                }
+            }
+            return length;
+        }
+
+        private int contentLength(int headerEnd) {
+            for (int i = 0; i + CONTENT_LENGTH.length < headerEnd; i++) {
+                int j = 0;
+                while (j < CONTENT_LENGTH.length && Character.toLowerCase(response[i + j]) == CONTENT_LENGTH[j]) {
+                    j++;
+                }
+                if (j == CONTENT_LENGTH.length) {
+                    int value = 0;
+                    for (int k = i + j; k < headerEnd && response[k] != '\r'; k++) {
+                        if (response[k] >= '0' && response[k] <= '9') {
+                            value = value * 10 + response[k] - '0';
+                        }
+                    }
+                    return value;
+                }
+            }
+            return 0;
+        }
+    }
+}
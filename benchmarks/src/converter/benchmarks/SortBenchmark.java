@@ -0,0 +1,74 @@
+package converter.benchmarks;
+
+import converter.ElbonianArabicConverter;
+import converter.ElbonianSort;
+import converter.ElbonianTables;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares ElbonianSort with Arrays.sort and a comparator that builds a converter for both numerals of every
+ * comparison. Every invocation sorts a fresh copy of the same numerals.
+ *
+ * @version 10/16/26
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@State(Scope.Benchmark)
+public class SortBenchmark {
+
+    private static final Comparator<String> CONVERTER_COMPARATOR = (a, b) -> {
+        try {
+            return Integer.compare(new ElbonianArabicConverter(a).toArabic(), new ElbonianArabicConverter(b).toArabic());
+        } catch (MalformedNumberException | ValueOutOfBoundsException e) {
+            throw new IllegalArgumentException(e);
+        }
+    };
+
+    @Param({"1000000", "10000000"})
+    private int size;
+
+    private String[] numbers;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(3733);
+        numbers = new String[size];
+        for (int i = 0; i < size; i++) {
+            numbers[i] = ElbonianTables.toElbonian(random.nextInt(ElbonianTables.MAX_VALUE) + 1);
+        }
+    }
+
+    @Benchmark
+    public String[] comparatorSort() {
+        String[] copy = numbers.clone();
+        Arrays.sort(copy, CONVERTER_COMPARATOR);
+        return copy;
+    }
+
+    @Benchmark
+    public String[] countingSort() throws MalformedNumberException, ValueOutOfBoundsException {
+        String[] copy = numbers.clone();
+        ElbonianSort.sort(copy, ElbonianSort.MalformedPolicy.REJECT);
+        return copy;
+    }
+}
@@ -0,0 +1,74 @@
+package converter.benchmarks;
+
+import converter.ElbonianArabicConverter;
+import converter.ElbonianTables;
+import converter.StatelessConverter;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multi threaded benchmarks that round trip every value of the Elbonian number system, so that the threads
+ * share the converter tables. The thread count is changed with the JMH -t option.
+ *
+ * @version 10/16/26
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class ThroughputBenchmark {
+
+    private static final String[] ARABIC = new String[ElbonianTables.MAX_VALUE];
+    private static final String[] ELBONIAN = new String[ElbonianTables.MAX_VALUE];
+
+    static {
+        for (int i = 0; i < ARABIC.length; i++) {
+            ARABIC[i] = Integer.toString(i + 1);
+            ELBONIAN[i] = ElbonianTables.toElbonian(i + 1);
+        }
+    }
+
+    /**
+     * The position of every thread in the inputs.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int next;
+
+        int next() {
+            int index = next;
+            next = index + 1 == ARABIC.length ? 0 : index + 1;
+            return index;
+        }
+    }
+
+    @Benchmark
+    public String arabicToElbonian(Cursor cursor) throws MalformedNumberException, ValueOutOfBoundsException {
+        return new ElbonianArabicConverter(ARABIC[cursor.next()]).toElbonian();
+    }
+
+    @Benchmark
+    public int elbonianToArabic(Cursor cursor) throws MalformedNumberException, ValueOutOfBoundsException {
+        return new ElbonianArabicConverter(ELBONIAN[cursor.next()]).toArabic();
+    }
+
+    @Benchmark
+    public String sharedArabicToElbonian(Cursor cursor) throws MalformedNumberException, ValueOutOfBoundsException {
+        return StatelessConverter.INSTANCE.toElbonian(ARABIC[cursor.next()]);
+    }
+}
@@ -0,0 +1,114 @@
+package converter;
+
+import converter.exceptions.FailureReason;
+
+/**
+ * A hand rolled parser for Arabic numerals. A single scan over the characters checks for embedded
+ * whitespace, comma grouping in thousands, leading zeroes, decimals and the bounds of a numeral system, and
+ * produces the value, without regular expressions, NumberFormat or Integer.parseInt.
+ *
+ * @version 10/16/26
+ */
+final class ArabicParser {
+
+    /**
+     * Returned by parse when the characters do not start like an Arabic numeral, so they have to be checked
+     * as a numeral of the numeral system instead.
+     */
+    static final long NOT_ARABIC = Long.MAX_VALUE;
+
+    private ArabicParser() {
+    }
+
+    /**
+     * Parses the Arabic numeral in a range of characters that has already been trimmed of spaces.
+     *
+     * @param number   The characters to read
+     * @param start    The index of the first character of the numeral
+     * @param end      The index after the last character of the numeral, greater than start
+     * @param minValue The smallest value that is in bounds
+     * @param maxValue The largest value that is in bounds
+     * @return The value of the numeral or the reason and position of the failure, as a ParseResult, or
+     * NOT_ARABIC if the characters do not start with a number
+     */
+    static long parse(CharSequence number, int start, int end, int minValue, int maxValue) {
+        boolean negative = number.charAt(start) == '-';
+        int firstDigit = negative ? start + 1 : start;
+        // The value of the leading digits, which stops growing once it is out of bounds
+        int value = 0;
+        // The index where the leading digits (and commas) end
+        int stop = -1;
+        int whitespace = -1;
+        int comma = -1;
+        int badGrouping = -1;
+        int decimalPoint = -1;
+        int groupLength = 0;
+        boolean firstGroup = true;
+        for (int i = start; i < end; i++) {
+            char c = number.charAt(i);
+            boolean digit = c >= '0' && c <= '9';
+            if (i >= firstDigit && stop == -1) {
+                if (digit) {
+                    if (value <= maxValue) {
+                        value = value * 10 + (c - '0');
+                    }
+                } else if (c != ',') {
+                    stop = i;
+                }
+            }
+            // Commas must separate the digits into a group of one to three followed by groups of exactly three
+            if (digit) {
+                groupLength++;
+                if (groupLength > 3 && badGrouping == -1) {
+                    badGrouping = i;
+                }
+            } else if (c == ',') {
+                if (comma == -1) {
+                    comma = i;
+                }
+                if ((firstGroup ? groupLength == 0 : groupLength != 3) && badGrouping == -1) {
+                    badGrouping = i;
+                }
+                groupLength = 0;
+                firstGroup = false;
+            } else {
+                if (badGrouping == -1) {
+                    badGrouping = i;
+                }
+                if (c == '.' && decimalPoint == -1) {
+                    decimalPoint = i;
+                } else if ((c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r')
+                        && whitespace == -1) {
+                    whitespace = i;
+                }
+            }
+        }
+        if (!firstGroup && groupLength != 3 && badGrouping == -1) {
+            badGrouping = end - 1;
+        }
+
+        if (whitespace != -1) {
+            return ParseResult.failure(FailureReason.WHITESPACE, whitespace);
+        }
+        if (comma != -1 && badGrouping != -1) {
+            return ParseResult.failure(FailureReason.BAD_COMMAS, badGrouping);
+        }
+        if (firstDigit >= end || number.charAt(firstDigit) < '0' || number.charAt(firstDigit) > '9') {
+            // Not a number at all, so it has to be checked as an Elbonian numeral
+            return NOT_ARABIC;
+        }
+        if (value > 0 && number.charAt(start) == '0') {
+            return ParseResult.failure(FailureReason.LEADING_ZERO, start);
+        }
+        if (negative || value < minValue || value > maxValue) {
+            return ParseResult.failure(FailureReason.OUT_OF_RANGE, start);
+        }
+        if (decimalPoint != -1) {
+            return ParseResult.failure(FailureReason.DECIMAL, decimalPoint);
+        }
+        if (stop != -1) {
+            return ParseResult.failure(FailureReason.ILLEGAL_CHARACTER, stop);
+        }
+        return ParseResult.success(value, false);
+    }
+}
@@ -0,0 +1,196 @@
+package converter;
+
+import converter.exceptions.FailureReason;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Converts whole batches of numerals at once. The loops share the precomputed tables and parsers with
+ * ElbonianArabicConverter, so they do no per element setup or allocation, and a bad element is recorded in
+ * a reason array instead of aborting the batch.
+ *
+ * @version 10/16/26
+ */
+public final class BatchConverter {
+
+    // The number of elements every parallel task converts
+    private static final int PARALLEL_CHUNK = 8192;
+
+    private BatchConverter() {
+    }
+
+    /**
+     * Writes the Elbonian numeral of every value one after another into a shared character buffer. The
+     * numeral of values[i] is out[offsets[i]] up to out[offsets[i + 1]]; values that cannot be represented
+     * get an empty range.
+     *
+     * @param values  The values to convert
+     * @param out     The buffer to write to, which needs room for ElbonianTables.MAX_LENGTH characters per value
+     * @param offsets Receives the start of every numeral, and the end of the last one, so it needs
+     *                values.length + 1 elements
+     * @param reasons Receives OUT_OF_RANGE for every value that cannot be represented and null for the others,
+     *                or null if only the number of failures is wanted
+     * @return The number of values that could not be converted
+     */
+    public static int toElbonian(int[] values, char[] out, int[] offsets, FailureReason[] reasons) {
+        int failures = 0;
+        int position = 0;
+        for (int i = 0; i < values.length; i++) {
+            offsets[i] = position;
+            int value = values[i];
+            FailureReason reason = null;
+            if (value < ElbonianTables.MIN_VALUE || value > ElbonianTables.MAX_VALUE) {
+                reason = FailureReason.OUT_OF_RANGE;
+                failures++;
+            } else {
+                String elbonian = ElbonianTables.toElbonian(value);
+                elbonian.getChars(0, elbonian.length(), out, position);
+                position += elbonian.length();
+            }
+            if (reasons != null) {
+                reasons[i] = reason;
+            }
+        }
+        offsets[values.length] = position;
+        return failures;
+    }
+
+    /**
+     * Parses every numeral of a batch, following the rules of the ElbonianArabicConverter constructor.
+     *
+     * @param numbers The Arabic or Elbonian numerals to parse
+     * @param out     Receives the value of every numeral, or -1 for numerals that could not be parsed
+     * @param reasons Receives the reason every numeral could not be parsed and null for the others, or null if
+     *                only the number of failures is wanted
+     * @return The number of numerals that could not be parsed
+     */
+    public static int toArabic(CharSequence[] numbers, int[] out, FailureReason[] reasons) {
+        return toArabic(numbers, 0, numbers.length, out, reasons);
+    }
+
+    /**
+     * Parses the numerals in a range of a batch, following the rules of the ElbonianArabicConverter
+     * constructor. Only the same range of out and reasons is written.
+     *
+     * @param numbers The Arabic or Elbonian numerals to parse
+     * @param from    The index of the first numeral to parse
+     * @param to      The index after the last numeral to parse
+     * @param out     Receives the value of every numeral, or -1 for numerals that could not be parsed
+     * @param reasons Receives the reason every numeral could not be parsed and null for the others, or null if
+     *                only the number of failures is wanted
+     * @return The number of numerals in the range that could not be parsed
+     */
+    public static int toArabic(CharSequence[] numbers, int from, int to, int[] out, FailureReason[] reasons) {
+        int failures = 0;
+        for (int i = from; i < to; i++) {
+            if (!parse(numbers[i], i, out, reasons)) {
+                failures++;
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * Parses every numeral of a batch, following the rules of the ElbonianArabicConverter constructor.
+     *
+     * @param numbers The Arabic or Elbonian numerals to parse
+     * @param out     Receives the value of every numeral, or -1 for numerals that could not be parsed
+     * @param reasons Receives the reason every numeral could not be parsed and null for the others, or null if
+     *                only the number of failures is wanted
+     * @return The number of numerals that could not be parsed
+     */
+    public static int toArabic(List<? extends CharSequence> numbers, int[] out, FailureReason[] reasons) {
+        int failures = 0;
+        int size = numbers.size();
+        for (int i = 0; i < size; i++) {
+            if (!parse(numbers.get(i), i, out, reasons)) {
+                failures++;
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * Parses every numeral of a batch like toArabic, splitting the batch into ranges that are parsed in
+     * parallel on the common ForkJoinPool.
+     *
+     * @param numbers The Arabic or Elbonian numerals to parse
+     * @param out     Receives the value of every numeral, or -1 for numerals that could not be parsed
+     * @param reasons Receives the reason every numeral could not be parsed and null for the others, or null if
+     *                only the number of failures is wanted
+     * @return The number of numerals that could not be parsed
+     */
+    public static int parallelToArabic(CharSequence[] numbers, int[] out, FailureReason[] reasons) {
+        int length = numbers.length;
+        return IntStream.range(0, chunks(length)).parallel()
+                .map(chunk -> toArabic(numbers, chunkStart(chunk, length), chunkStart(chunk + 1, length), out, reasons))
+                .sum();
+    }
+
+    /**
+     * Writes the Elbonian numerals of a batch like toElbonian, in parallel on the common ForkJoinPool. The
+     * length of every numeral is looked up first so that every range knows where its numerals start, and the
+     * output is identical to toElbonian.
+     *
+     * @param values  The values to convert
+     * @param out     The buffer to write to, which needs room for ElbonianTables.MAX_LENGTH characters per value
+     * @param offsets Receives the start of every numeral, and the end of the last one, so it needs
+     *                values.length + 1 elements
+     * @param reasons Receives OUT_OF_RANGE for every value that cannot be represented and null for the others,
+     *                or null if only the number of failures is wanted
+     * @return The number of values that could not be converted
+     */
+    public static int parallelToElbonian(int[] values, char[] out, int[] offsets, FailureReason[] reasons) {
+        int length = values.length;
+        int chunks = chunks(length);
+        // First every offset holds the length of the numeral before it, then the running total
+        offsets[0] = 0;
+        int failures = IntStream.range(0, chunks).parallel().map(chunk -> {
+            int chunkFailures = 0;
+            for (int i = chunkStart(chunk, length); i < chunkStart(chunk + 1, length); i++) {
+                int value = values[i];
+                FailureReason reason = null;
+                if (value < ElbonianTables.MIN_VALUE || value > ElbonianTables.MAX_VALUE) {
+                    reason = FailureReason.OUT_OF_RANGE;
+                    offsets[i + 1] = 0;
+                    chunkFailures++;
+                } else {
+                    offsets[i + 1] = ElbonianTables.toElbonian(value).length();
+                }
+                if (reasons != null) {
+                    reasons[i] = reason;
+                }
+            }
+            return chunkFailures;
+        }).sum();
+        Arrays.parallelPrefix(offsets, 0, length + 1, Integer::sum);
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            for (int i = chunkStart(chunk, length); i < chunkStart(chunk + 1, length); i++) {
+                if (offsets[i + 1] != offsets[i]) {
+                    String elbonian = ElbonianTables.toElbonian(values[i]);
+                    elbonian.getChars(0, elbonian.length(), out, offsets[i]);
+                }
+            }
+        });
+        return failures;
+    }
+
+    private static int chunks(int length) {
+        return (length + PARALLEL_CHUNK - 1) / PARALLEL_CHUNK;
+    }
+
+    private static int chunkStart(int chunk, int length) {
+        return (int) Math.min((long) chunk * PARALLEL_CHUNK, length);
+    }
+
+    private static boolean parse(CharSequence number, int index, int[] out, FailureReason[] reasons) {
+        long result = ElbonianArabicConverter.tryParse(number);
+        out[index] = ParseResult.value(result);
+        if (reasons != null) {
+            reasons[index] = ParseResult.reason(result);
+        }
+        return ParseResult.isSuccess(result);
+    }
+}
@@ -0,0 +1,130 @@
+package converter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Validates fixed width columns of ASCII Elbonian numerals, as they come from bulk ingest. Every field is
+ * width bytes long and holds one numeral followed by spaces up to the width, and it is valid when the
+ * numeral follows the rules of the Elbonian number system: only Elbonian symbols, in order from the largest
+ * to the smallest, no symbol repeated more often than allowed, and no illegal triple. Arabic numerals are
+ * not accepted.
+ * <p>
+ * When the JVM runs with --add-modules jdk.incubator.vector, validate checks as many fields at once as fit
+ * in a vector register, using converter.vector.VectorColumnValidator. Without the module, or for fields
+ * wider than a register, it falls back to validateScalar, which runs the automaton of the parser over every
+ * field. Both give the same results.
+ *
+ * @version 10/16/26
+ */
+public final class ColumnValidator {
+
+    // The vector implementation, or null if the incubator module or the class is not there
+    private static final MethodHandle VECTOR = vectorValidator();
+
+    private ColumnValidator() {
+    }
+
+    private static MethodHandle vectorValidator() {
+        if (!ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            return null;
+        }
+        try {
+            Class<?> validator = Class.forName("converter.vector.VectorColumnValidator");
+            return MethodHandles.publicLookup().findStatic(validator, "validate", MethodType.methodType(long.class,
+                    byte[].class, int.class, int.class, int.class, boolean[].class));
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return True if validate uses the Vector API
+     */
+    public static boolean isVectorized() {
+        return VECTOR != null;
+    }
+
+    /**
+     * Validates every field of a column, with the Vector API when it is available.
+     *
+     * @param column The bytes of the column
+     * @param offset The index of the first byte of the first field
+     * @param width  The number of bytes of every field
+     * @param count  The number of fields
+     * @param valid  Receives whether every field is valid, so it needs count elements
+     * @return The number of fields that are not valid
+     * @throws IndexOutOfBoundsException Thrown if the fields do not fit in column or the results in valid
+     */
+    public static int validate(byte[] column, int offset, int width, int count, boolean[] valid) {
+        checkBounds(column, offset, width, count, valid);
+        int failures = 0;
+        int done = 0;
+        if (VECTOR != null) {
+            long result;
+            try {
+                result = (long) VECTOR.invokeExact(column, offset, width, count, valid);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+            // The vector validator returns its failures in the high half and the fields it checked in the low half
+            failures = (int) (result >>> 32);
+            done = (int) result;
+        }
+        return failures + scalar(column, offset, width, done, count, valid);
+    }
+
+    /**
+     * Validates every field of a column one byte at a time.
+     *
+     * @param column The bytes of the column
+     * @param offset The index of the first byte of the first field
+     * @param width  The number of bytes of every field
+     * @param count  The number of fields
+     * @param valid  Receives whether every field is valid, so it needs count elements
+     * @return The number of fields that are not valid
+     * @throws IndexOutOfBoundsException Thrown if the fields do not fit in column or the results in valid
+     */
+    public static int validateScalar(byte[] column, int offset, int width, int count, boolean[] valid) {
+        checkBounds(column, offset, width, count, valid);
+        return scalar(column, offset, width, 0, count, valid);
+    }
+
+    private static void checkBounds(byte[] column, int offset, int width, int count, boolean[] valid) {
+        if (width < 1) {
+            throw new IllegalArgumentException("Width must be positive");
+        }
+        if (offset < 0 || count < 0 || offset + (long) width * count > column.length || count > valid.length) {
+            throw new IndexOutOfBoundsException(count + " fields of " + width + " bytes at " + offset
+                    + " do not fit in " + column.length + " bytes and " + valid.length + " results");
+        }
+    }
+
+    // Validates the fields from first up to count
+    private static int scalar(byte[] column, int offset, int width, int first, int count, boolean[] valid) {
+        NumeralAutomaton automaton = NumeralSystem.ELBONIAN.automaton();
+        int failures = 0;
+        for (int field = first; field < count; field++) {
+            int start = offset + field * width;
+            int end = start + width;
+            int state = NumeralAutomaton.START;
+            int i = start;
+            for (; i < end && column[i] != ' ' && state >= 0; i++) {
+                int rank = automaton.rank((char) (column[i] & 0xFF));
+                state = rank < 0 ? -1 : automaton.next(state, rank);
+            }
+            boolean ok = state > NumeralAutomaton.START;
+            for (; i < end && ok; i++) {
+                ok = column[i] == ' ';
+            }
+            valid[field] = ok;
+            if (!ok) {
+                failures++;
+            }
+        }
+        return failures;
+    }
+}
@@ -0,0 +1,42 @@
+package converter;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The Flight Recorder event for one parse, emitted while ConversionMetrics is enabled. Like every custom event
+ * it is only recorded when a recording enables converter.Conversion, and its duration is the parse time.
+ *
+ * @version 10/16/26
+ */
+@Name("converter.Conversion")
+@Label("Numeral Conversion")
+@Category("Elbonian Arabic Converter")
+@Description("Parses an Elbonian or Arabic numeral")
+@StackTrace(false)
+final class ConversionEvent extends Event {
+
+    @Label("Length")
+    @Description("The number of characters parsed, including spaces")
+    int length;
+
+    @Label("Value")
+    @Description("The parsed value, or -1 if the parse failed")
+    int value;
+
+    @Label("Elbonian")
+    @Description("True if an Elbonian numeral was parsed")
+    boolean elbonian;
+
+    @Label("Failure Reason")
+    @Description("The reason the parse failed, or null if it succeeded")
+    String reason;
+
+    @Label("Failure Position")
+    @Description("The index of the character that failed the parse, or -1 if there is none")
+    int position;
+}
@@ -0,0 +1,315 @@
+package converter;
+
+import converter.exceptions.FailureReason;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in counters for every number parsed by ElbonianArabicConverter, including the constructor, tryParse and
+ * everything built on them. While enabled, every parse is counted by the direction it converts in or by the
+ * reason it failed, its latency is added to a histogram and a ConversionEvent is emitted for Flight Recorder.
+ * While disabled, which is the default, a parse only reads one volatile flag.
+ *
+ * @version 10/16/26
+ */
+public final class ConversionMetrics {
+
+    /**
+     * The name the MBean is registered under.
+     */
+    public static final String OBJECT_NAME = "converter:type=ConversionMetrics";
+
+    /**
+     * The number of latency buckets. Bucket 0 counts parses that took no measurable time and bucket i counts
+     * parses that took from 2^(i-1) up to 2^i - 1 nanoseconds, except the last bucket, which counts everything
+     * slower.
+     */
+    public static final int LATENCY_BUCKETS = 32;
+
+    private static final FailureReason[] REASONS = FailureReason.values();
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    // Read by ElbonianArabicConverter.tryParse before it measures anything
+    static volatile boolean enabled;
+
+    private static final LongAdder[] CONVERSIONS = adders(DIRECTIONS.length);
+    private static final LongAdder[] FAILURES = adders(REASONS.length);
+    private static final LongAdder[] LATENCIES = adders(LATENCY_BUCKETS);
+
+    private ConversionMetrics() {
+    }
+
+    private static LongAdder[] adders(int count) {
+        LongAdder[] adders = new LongAdder[count];
+        for (int i = 0; i < count; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    /**
+     * Starts counting parses. The counts continue from where they were when the metrics were disabled.
+     */
+    public static void enable() {
+        enabled = true;
+    }
+
+    /**
+     * Stops counting parses. The counts are kept until reset is called.
+     */
+    public static void disable() {
+        enabled = false;
+    }
+
+    /**
+     * @return True if parses are being counted
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets every count back to zero. Parses that finish while the counts are reset may be partly counted.
+     */
+    public static void reset() {
+        for (LongAdder[] adders : Arrays.asList(CONVERSIONS, FAILURES, LATENCIES)) {
+            for (LongAdder adder : adders) {
+                adder.reset();
+            }
+        }
+    }
+
+    /**
+     * Copies the current counts. The copy is not atomic, so parses that finish while it is taken may be
+     * counted in some totals and not in others.
+     *
+     * @return The counts at about the time of the call
+     */
+    public static Snapshot snapshot() {
+        long[] conversions = new long[CONVERSIONS.length];
+        for (int i = 0; i < conversions.length; i++) {
+            conversions[i] = CONVERSIONS[i].sum();
+        }
+        long[] failures = new long[FAILURES.length];
+        for (int i = 0; i < failures.length; i++) {
+            failures[i] = FAILURES[i].sum();
+        }
+        long[] latencies = new long[LATENCIES.length];
+        for (int i = 0; i < latencies.length; i++) {
+            latencies[i] = LATENCIES[i].sum();
+        }
+        return new Snapshot(conversions, failures, latencies);
+    }
+
+    /**
+     * Registers an MBean that reads these metrics with the platform MBean server, under OBJECT_NAME.
+     *
+     * @return The name the MBean was registered under
+     * @throws JMException Thrown if the MBean cannot be registered, for example because it already is
+     */
+    public static ObjectName registerMBean() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(OBJECT_NAME);
+        server.registerMBean(new MXBean(), name);
+        return name;
+    }
+
+    /**
+     * Parses like ElbonianArabicConverter.tryParse, counting the parse and emitting a ConversionEvent.
+     *
+     * @param number The characters to read
+     * @param start  The index of the first character of the range
+     * @param end    The index after the last character of the range
+     * @return The parsed value, or the reason and position of the failure, packed into a long
+     */
+    static long measure(CharSequence number, int start, int end) {
+        ConversionEvent event = new ConversionEvent();
+        event.begin();
+        long startTime = System.nanoTime();
+        long result = ElbonianArabicConverter.parse(number, start, end);
+        long nanos = System.nanoTime() - startTime;
+        event.end();
+        record(result, nanos);
+        if (event.shouldCommit()) {
+            FailureReason reason = ParseResult.reason(result);
+            event.length = end - start;
+            event.value = ParseResult.value(result);
+            event.elbonian = ParseResult.isElbonian(result);
+            event.reason = reason == null ? null : reason.name();
+            event.position = ParseResult.position(result);
+            event.commit();
+        }
+        return result;
+    }
+
+    private static void record(long result, long nanos) {
+        if (ParseResult.isSuccess(result)) {
+            Direction direction = ParseResult.isElbonian(result) ? Direction.TO_ARABIC : Direction.TO_ELBONIAN;
+            CONVERSIONS[direction.ordinal()].increment();
+        } else {
+            FAILURES[ParseResult.reason(result).ordinal()].increment();
+        }
+        LATENCIES[latencyBucket(nanos)].increment();
+    }
+
+    private static int latencyBucket(long nanos) {
+        return Math.min(LATENCY_BUCKETS - 1, 64 - Long.numberOfLeadingZeros(Math.max(nanos, 0)));
+    }
+
+    /**
+     * The counts of ConversionMetrics at one point in time.
+     */
+    public static final class Snapshot {
+
+        private final long[] conversions;
+        private final long[] failures;
+        private final long[] latencies;
+
+        private Snapshot(long[] conversions, long[] failures, long[] latencies) {
+            this.conversions = conversions;
+            this.failures = failures;
+            this.latencies = latencies;
+        }
+
+        /**
+         * @param direction The direction to count, TO_ARABIC for Elbonian input and TO_ELBONIAN for Arabic input
+         * @return The number of successful parses in the direction
+         */
+        public long getConversions(Direction direction) {
+            return conversions[direction.ordinal()];
+        }
+
+        /**
+         * @param reason The failure reason to count
+         * @return The number of parses that failed for the reason
+         */
+        public long getFailures(FailureReason reason) {
+            return failures[reason.ordinal()];
+        }
+
+        /**
+         * @return The number of failed parses for every failure reason, including the ones that never occurred
+         */
+        public Map<FailureReason, Long> getFailures() {
+            Map<FailureReason, Long> map = new EnumMap<>(FailureReason.class);
+            for (FailureReason reason : REASONS) {
+                map.put(reason, failures[reason.ordinal()]);
+            }
+            return map;
+        }
+
+        /**
+         * @return The number of parses, successful or not
+         */
+        public long getTotal() {
+            long total = 0;
+            for (long count : latencies) {
+                total += count;
+            }
+            return total;
+        }
+
+        /**
+         * @return The number of parses in every latency bucket, as described by LATENCY_BUCKETS
+         */
+        public long[] getLatencyHistogram() {
+            return latencies.clone();
+        }
+
+        /**
+         * Estimates a latency percentile from the histogram, rounded up to the end of its bucket.
+         *
+         * @param percentile The percentile, from 0 to 100
+         * @return The latency in nanoseconds that the given percentage of the parses did not exceed, or 0 if
+         * there were no parses
+         */
+        public long getLatencyPercentile(double percentile) {
+            if (percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("Percentile must be between 0 and 100");
+            }
+            long total = getTotal();
+            long threshold = (long) Math.ceil(total * percentile / 100);
+            long seen = 0;
+            for (int i = 0; i < latencies.length; i++) {
+                seen += latencies[i];
+                if (seen >= threshold && seen > 0) {
+                    return i == latencies.length - 1 ? Long.MAX_VALUE : (1L << i) - 1;
+                }
+            }
+            return 0;
+        }
+
+        @Override
+        public String toString() {
+            return getTotal() + " parses, " + conversions[Direction.TO_ARABIC.ordinal()] + " to Arabic, "
+                    + conversions[Direction.TO_ELBONIAN.ordinal()] + " to Elbonian, failures " + getFailures();
+        }
+    }
+
+    /**
+     * The MBean registered by registerMBean.
+     */
+    private static final class MXBean implements ConversionMetricsMXBean {
+
+        @Override
+        public boolean isEnabled() {
+            return ConversionMetrics.isEnabled();
+        }
+
+        @Override
+        public void setEnabled(boolean enabled) {
+            if (enabled) {
+                enable();
+            } else {
+                disable();
+            }
+        }
+
+        @Override
+        public long getToArabicConversions() {
+            return CONVERSIONS[Direction.TO_ARABIC.ordinal()].sum();
+        }
+
+        @Override
+        public long getToElbonianConversions() {
+            return CONVERSIONS[Direction.TO_ELBONIAN.ordinal()].sum();
+        }
+
+        @Override
+        public Map<String, Long> getFailures() {
+            Map<String, Long> map = new TreeMap<>();
+            for (FailureReason reason : REASONS) {
+                map.put(reason.name(), FAILURES[reason.ordinal()].sum());
+            }
+            return map;
+        }
+
+        @Override
+        public long getMedianLatencyNanos() {
+            return snapshot().getLatencyPercentile(50);
+        }
+
+        @Override
+        public long getP99LatencyNanos() {
+            return snapshot().getLatencyPercentile(99);
+        }
+
+        @Override
+        public long[] getLatencyHistogram() {
+            return snapshot().getLatencyHistogram();
+        }
+
+        @Override
+        public void reset() {
+            ConversionMetrics.reset();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package converter;
+
+import java.util.Map;
+
+/**
+ * The JMX view of ConversionMetrics, registered by ConversionMetrics.registerMBean.
+ *
+ * @version 10/16/26
+ */
+public interface ConversionMetricsMXBean {
+
+    /**
+     * @return True if parses are being counted
+     */
+    boolean isEnabled();
+
+    /**
+     * @param enabled True to start counting parses, false to stop
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * @return The number of Elbonian numerals parsed
+     */
+    long getToArabicConversions();
+
+    /**
+     * @return The number of Arabic numerals parsed
+     */
+    long getToElbonianConversions();
+
+    /**
+     * @return The number of failed parses by failure reason name
+     */
+    Map<String, Long> getFailures();
+
+    /**
+     * @return The estimated median parse latency in nanoseconds
+     */
+    long getMedianLatencyNanos();
+
+    /**
+     * @return The estimated 99th percentile parse latency in nanoseconds
+     */
+    long getP99LatencyNanos();
+
+    /**
+     * @return The number of parses in every latency bucket, as described by ConversionMetrics.LATENCY_BUCKETS
+     */
+    long[] getLatencyHistogram();
+
+    /**
+     * Sets every count back to zero.
+     */
+    void reset();
+}
@@ -0,0 +1,68 @@
+package converter;
+
+import converter.exceptions.FailureReason;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * The numeral form a conversion produces.
+ *
+ * @version 10/16/26
+ */
+public enum Direction {
+    TO_ARABIC,
+    TO_ELBONIAN;
+
+    /**
+     * Checks that a parsed number was written in the form this direction converts from, Elbonian for
+     * TO_ARABIC and Arabic for TO_ELBONIAN. Lenient conversions accept either form and skip this check.
+     *
+     * @param result A result returned by tryParse
+     * @return The result unchanged, or a WRONG_FORM failure if it was parsed from the form this direction
+     * produces
+     */
+    public long requireSourceForm(long result) {
+        if (ParseResult.isSuccess(result) && ParseResult.isElbonian(result) == (this == TO_ELBONIAN)) {
+            return ParseResult.failure(FailureReason.WRONG_FORM, -1);
+        }
+        return result;
+    }
+
+    /**
+     * Writes the numeral for a value in this direction's form as ASCII bytes at the position of a buffer.
+     *
+     * @param value A value between ElbonianTables.MIN_VALUE and ElbonianTables.MAX_VALUE
+     * @param out   The buffer to write to
+     * @return The number of bytes written
+     */
+    public int encode(int value, ByteBuffer out) {
+        return this == TO_ARABIC ? NumeralCodec.encodeArabic(value, out) : NumeralCodec.encodeElbonian(value, out);
+    }
+
+    /**
+     * Writes the numeral for a value in this direction's form into a character array.
+     *
+     * @param value  A value between ElbonianTables.MIN_VALUE and ElbonianTables.MAX_VALUE
+     * @param out    The array to write to
+     * @param offset The index of the first character to write
+     * @return The number of characters written
+     */
+    public int encode(int value, char[] out, int offset) {
+        return this == TO_ARABIC
+                ? NumeralCodec.encodeArabic(value, out, offset)
+                : NumeralCodec.encodeElbonian(value, out, offset);
+    }
+
+    /**
+     * Appends the numeral for a value in this direction's form.
+     *
+     * @param value A value between ElbonianTables.MIN_VALUE and ElbonianTables.MAX_VALUE
+     * @param out   The destination to append to
+     * @return The number of characters written
+     * @throws IOException Thrown if the destination fails to append
+     */
+    public int encode(int value, Appendable out) throws IOException {
+        return this == TO_ARABIC ? NumeralCodec.encodeArabic(value, out) : NumeralCodec.encodeElbonian(value, out);
+    }
+}
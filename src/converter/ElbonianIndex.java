@@ -0,0 +1,119 @@
+package converter;
+
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An index of every valid Elbonian numeral. The rules of the number system leave exactly one valid spelling
+ * for every value from ElbonianTables.MIN_VALUE to ElbonianTables.MAX_VALUE, the one toElbonian produces, so
+ * there are no non-canonical spellings to list. That also makes the sum of the symbol values a minimal perfect
+ * hash of the valid numerals: it maps them one to one onto their values, and the numeral stored for the value
+ * confirms a match. A lookup therefore reads every character at most twice, with no exceptions, no allocation
+ * and no index beyond the table ElbonianTables already holds.
+ * <p>
+ * Unlike the converter, the index compares exact spellings, so leading or trailing spaces are not ignored.
+ *
+ * @version 10/16/26
+ */
+public final class ElbonianIndex {
+
+    private static final List<String> NUMERALS = new AbstractList<String>() {
+        @Override
+        public String get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of " + size() + " numerals");
+            }
+            return ElbonianTables.toElbonian(index + ElbonianTables.MIN_VALUE);
+        }
+
+        @Override
+        public int size() {
+            return ElbonianTables.MAX_VALUE - ElbonianTables.MIN_VALUE + 1;
+        }
+    };
+
+    private ElbonianIndex() {
+    }
+
+    /**
+     * @return The number of valid Elbonian numerals
+     */
+    public static int size() {
+        return NUMERALS.size();
+    }
+
+    /**
+     * Tests whether a string is a valid Elbonian numeral.
+     *
+     * @param numeral The characters to test
+     * @return True if the whole sequence is a valid Elbonian numeral
+     */
+    public static boolean contains(CharSequence numeral) {
+        return valueOf(numeral, 0, numeral.length()) >= 0;
+    }
+
+    /**
+     * Looks up the value of a valid Elbonian numeral.
+     *
+     * @param numeral The characters to look up
+     * @return The value of the numeral, or -1 if the whole sequence is not a valid Elbonian numeral
+     */
+    public static int valueOf(CharSequence numeral) {
+        return valueOf(numeral, 0, numeral.length());
+    }
+
+    /**
+     * Looks up the value of a valid Elbonian numeral in a range of characters, without copying them.
+     *
+     * @param numeral The characters to read
+     * @param start   The index of the first character of the range
+     * @param end     The index after the last character of the range
+     * @return The value of the numeral, or -1 if the range is not a valid Elbonian numeral
+     */
+    public static int valueOf(CharSequence numeral, int start, int end) {
+        int length = end - start;
+        if (length <= 0 || length > ElbonianTables.MAX_LENGTH) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            int symbolValue = ElbonianTables.valueOf(numeral.charAt(i));
+            if (symbolValue == 0) {
+                return -1;
+            }
+            value += symbolValue;
+        }
+        if (value > ElbonianTables.MAX_VALUE) {
+            return -1;
+        }
+        String candidate = ElbonianTables.toElbonian(value);
+        if (candidate.length() != length) {
+            return -1;
+        }
+        for (int i = 0; i < length; i++) {
+            if (candidate.charAt(i) != numeral.charAt(start + i)) {
+                return -1;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Lists every valid spelling of a value. There is exactly one, the canonical numeral.
+     *
+     * @param value A value between ElbonianTables.MIN_VALUE and ElbonianTables.MAX_VALUE
+     * @return The valid spellings of the value
+     * @throws IllegalArgumentException Thrown if the value cannot be represented in the Elbonian number system
+     */
+    public static List<String> spellings(int value) {
+        return Collections.singletonList(ElbonianTables.toElbonian(value));
+    }
+
+    /**
+     * @return Every valid Elbonian numeral in the order of their values, as an unmodifiable list
+     */
+    public static List<String> numerals() {
+        return NUMERALS;
+    }
+}
@@ -0,0 +1,135 @@
+package converter;
+
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+
+/**
+ * An immutable Elbonian number, backed by a short. There is exactly one instance for every value from
+ * ElbonianTables.MIN_VALUE to ElbonianTables.MAX_VALUE, created when the class is loaded, so parsing,
+ * arithmetic and comparisons never allocate, and equal numbers are always the same instance.
+ *
+ * @version 10/16/26
+ */
+public final class ElbonianNumber implements Comparable<ElbonianNumber> {
+
+    private static final ElbonianNumber[] INSTANCES = new ElbonianNumber[ElbonianTables.MAX_VALUE + 1];
+
+    static {
+        for (int value = ElbonianTables.MIN_VALUE; value <= ElbonianTables.MAX_VALUE; value++) {
+            INSTANCES[value] = new ElbonianNumber(value);
+        }
+    }
+
+    /**
+     * The smallest Elbonian number.
+     */
+    public static final ElbonianNumber MIN = INSTANCES[ElbonianTables.MIN_VALUE];
+
+    /**
+     * The largest Elbonian number.
+     */
+    public static final ElbonianNumber MAX = INSTANCES[ElbonianTables.MAX_VALUE];
+
+    private final short value;
+
+    private ElbonianNumber(int value) {
+        this.value = (short) value;
+    }
+
+    /**
+     * Returns the Elbonian number for a value.
+     *
+     * @param value The value of the number
+     * @return The shared instance for the value
+     * @throws ValueOutOfBoundsException Thrown if the value cannot be represented in the Elbonian number system
+     */
+    public static ElbonianNumber valueOf(int value) throws ValueOutOfBoundsException {
+        if (value < ElbonianTables.MIN_VALUE || value > ElbonianTables.MAX_VALUE) {
+            throw new ValueOutOfBoundsException(-1);
+        }
+        return INSTANCES[value];
+    }
+
+    /**
+     * Parses a number in either form, following the rules of the ElbonianArabicConverter constructor.
+     *
+     * @param number A string that represents either a Elbonian or Arabic number.
+     * @return The shared instance for the value of the number
+     * @throws MalformedNumberException  Thrown if the number is not a valid Elbonian or Arabic numeral
+     * @throws ValueOutOfBoundsException Thrown if the number is an Arabic numeral that cannot be represented
+     *                                   in the Elbonian number system
+     */
+    public static ElbonianNumber parse(String number) throws MalformedNumberException, ValueOutOfBoundsException {
+        return INSTANCES[ParseResult.valueOrThrow(ElbonianArabicConverter.tryParse(number))];
+    }
+
+    /**
+     * @param other The number to add
+     * @return The sum of the numbers
+     * @throws ValueOutOfBoundsException Thrown if the sum is larger than the largest Elbonian number
+     */
+    public ElbonianNumber add(ElbonianNumber other) throws ValueOutOfBoundsException {
+        return valueOf(value + other.value);
+    }
+
+    /**
+     * @param other The number to subtract
+     * @return The difference of the numbers
+     * @throws ValueOutOfBoundsException Thrown if the other number is not smaller than this one, since the
+     *                                   Elbonian number system has no zero or negative numbers
+     */
+    public ElbonianNumber subtract(ElbonianNumber other) throws ValueOutOfBoundsException {
+        return valueOf(value - other.value);
+    }
+
+    /**
+     * @param other The number to compare with
+     * @return The smaller of the numbers
+     */
+    public ElbonianNumber min(ElbonianNumber other) {
+        return value <= other.value ? this : other;
+    }
+
+    /**
+     * @param other The number to compare with
+     * @return The larger of the numbers
+     */
+    public ElbonianNumber max(ElbonianNumber other) {
+        return value >= other.value ? this : other;
+    }
+
+    @Override
+    public int compareTo(ElbonianNumber other) {
+        return value - other.value;
+    }
+
+    /**
+     * @return The value of the number
+     */
+    public int toArabic() {
+        return value;
+    }
+
+    /**
+     * @return The Elbonian numeral of the number, which is looked up rather than built
+     */
+    public String toElbonian() {
+        return ElbonianTables.toElbonian(value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        // Every value has a single instance
+        return this == other;
+    }
+
+    @Override
+    public int hashCode() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return toElbonian();
+    }
+}
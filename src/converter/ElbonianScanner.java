@@ -0,0 +1,303 @@
+package converter;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Finds the Elbonian numerals in free text in a single pass. The word boundary rule and the rules of the
+ * Elbonian number system are compiled into one transition table over the ASCII characters, so every
+ * character costs one table lookup, ordinary words are skipped without being parsed, and nothing is
+ * allocated per token. A match is a maximal run of Elbonian symbols that is a valid numeral and has a
+ * boundary, or the start or end of the text, on either side.
+ *
+ * @version 10/16/26
+ */
+public final class ElbonianScanner {
+
+    /**
+     * Which characters may surround a numeral.
+     */
+    public enum Boundary {
+        /**
+         * Any character but a letter, a digit or an underscore, so "XII," matches and "XIIth" does not.
+         */
+        WORD,
+        /**
+         * Only whitespace, so neither "XII," nor "XIIth" matches.
+         */
+        WHITESPACE,
+        /**
+         * Any character that is not an Elbonian symbol, so "XIIth" matches as well.
+         */
+        NONE
+    }
+
+    /**
+     * Receives the numerals that are found.
+     */
+    public interface MatchHandler {
+
+        /**
+         * Called for every numeral, in the order of the text.
+         *
+         * @param offset The index of the first character of the numeral, or of its first byte in a file
+         * @param length The number of characters of the numeral
+         * @param value  The value of the numeral
+         */
+        void onMatch(long offset, int length, int value);
+    }
+
+    // The scanner states. Every state from RUN on is a state of the automaton inside a possible numeral.
+    private static final int IDLE = 0;
+    private static final int BLOCKED = 1;
+    private static final int RUN = 2;
+
+    // The character classes are the ASCII characters, then one for every other boundary and word character
+    private static final int OTHER_BOUNDARY = 128;
+    private static final int OTHER_WORD = 129;
+    private static final int CLASSES = 130;
+
+    // The number of characters copied at a time from a Reader or a CharSequence without an array
+    private static final int CHUNK_SIZE = 8192;
+
+    // The size of the mapped windows of a file
+    private static final int WINDOW_SIZE = 16 << 20;
+
+    private final Boundary boundary;
+    // The next state for every state and character class. States are stored multiplied by CLASSES, the
+    // index of their first entry, so following a transition needs no multiplication.
+    private final int[] transitions;
+    // The value of every character class, 0 for the characters that are not symbols
+    private final int[] values = new int[CLASSES];
+
+    /**
+     * Constructor for a scanner.
+     *
+     * @param boundary Which characters may surround a numeral
+     */
+    public ElbonianScanner(Boundary boundary) {
+        this.boundary = boundary;
+        NumeralSystem system = NumeralSystem.ELBONIAN;
+        NumeralAutomaton automaton = system.automaton();
+        int states = RUN + automaton.stateCount();
+        transitions = new int[states * CLASSES];
+        for (int c = 0; c < CLASSES; c++) {
+            int rank = c < 128 ? system.rank((char) c) : -1;
+            values[c] = rank < 0 ? 0 : system.valueOf((char) c);
+            boolean separates = c == OTHER_BOUNDARY || c < 128 && isBoundary((char) c);
+            for (int state = 0; state < states; state++) {
+                int next;
+                if (rank < 0) {
+                    next = separates ? IDLE : BLOCKED;
+                } else if (state == BLOCKED) {
+                    next = BLOCKED;
+                } else {
+                    int from = state == IDLE ? NumeralAutomaton.START : state - RUN;
+                    int step = automaton.next(from, rank);
+                    next = step < 0 ? BLOCKED : RUN + step;
+                }
+                transitions[state * CLASSES + c] = next * CLASSES;
+            }
+        }
+    }
+
+    // True if a character that is not an Elbonian symbol may surround a numeral
+    private boolean isBoundary(char c) {
+        switch (boundary) {
+            case WORD:
+                return !Character.isLetterOrDigit(c) && c != '_';
+            case WHITESPACE:
+                return Character.isWhitespace(c);
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * @return Which characters may surround a numeral
+     */
+    public Boundary getBoundary() {
+        return boundary;
+    }
+
+    /**
+     * Finds the numerals in a sequence of characters.
+     *
+     * @param text    The text to scan
+     * @param handler Receives the numerals, with offsets that are indexes into text
+     * @return The number of numerals found
+     */
+    public long scan(CharSequence text, MatchHandler handler) {
+        Scan scan = new Scan();
+        int length = text.length();
+        if (text instanceof CharBuffer && ((CharBuffer) text).hasArray()) {
+            CharBuffer buffer = (CharBuffer) text;
+            int from = buffer.arrayOffset() + buffer.position();
+            scan.chars(buffer.array(), from, from + length, -from, handler);
+        } else {
+            char[] chunk = new char[Math.min(length, CHUNK_SIZE)];
+            for (int start = 0; start < length; start += chunk.length) {
+                int end = Math.min(length, start + chunk.length);
+                if (text instanceof String) {
+                    ((String) text).getChars(start, end, chunk, 0);
+                } else {
+                    for (int i = start; i < end; i++) {
+                        chunk[i - start] = text.charAt(i);
+                    }
+                }
+                scan.chars(chunk, 0, end - start, start, handler);
+            }
+        }
+        scan.finish(length, handler);
+        return scan.matches;
+    }
+
+    /**
+     * Finds the numerals in a range of a character array.
+     *
+     * @param text    The text to scan
+     * @param start   The index of the first character to scan
+     * @param end     The index after the last character to scan
+     * @param handler Receives the numerals, with offsets that are indexes into text
+     * @return The number of numerals found
+     */
+    public long scan(char[] text, int start, int end, MatchHandler handler) {
+        Scan scan = new Scan();
+        scan.chars(text, start, end, 0, handler);
+        scan.finish(end, handler);
+        return scan.matches;
+    }
+
+    /**
+     * Finds the numerals in the characters of a reader, which is read to the end but not closed.
+     *
+     * @param reader  The text to scan
+     * @param handler Receives the numerals, with offsets that count the characters read before them
+     * @return The number of numerals found
+     * @throws IOException Thrown if the reader fails
+     */
+    public long scan(Reader reader, MatchHandler handler) throws IOException {
+        Scan scan = new Scan();
+        char[] chunk = new char[CHUNK_SIZE];
+        long offset = 0;
+        int read;
+        while ((read = reader.read(chunk)) >= 0) {
+            scan.chars(chunk, 0, read, offset, handler);
+            offset += read;
+        }
+        scan.finish(offset, handler);
+        return scan.matches;
+    }
+
+    /**
+     * Finds the numerals in a file, which is memory mapped one window at a time. The bytes are scanned
+     * directly, which suits UTF-8 and the other encodings that keep ASCII characters as single bytes. Every
+     * byte outside ASCII counts as a letter, and so as a boundary only when the boundary is NONE.
+     *
+     * @param file    The file to scan
+     * @param handler Receives the numerals, with offsets that are positions in the file
+     * @return The number of numerals found
+     * @throws IOException Thrown if the file cannot be read
+     */
+    public long scan(Path file, MatchHandler handler) throws IOException {
+        Scan scan = new Scan();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            for (long position = 0; position < size; position += WINDOW_SIZE) {
+                long end = Math.min(size, position + WINDOW_SIZE);
+                ByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, end - position);
+                scan.bytes(window, position, handler);
+            }
+            scan.finish(size, handler);
+        }
+        return scan.matches;
+    }
+
+    /**
+     * The progress of one scan, which carries a numeral over from one chunk of text to the next.
+     */
+    private final class Scan {
+
+        private int state = IDLE;
+        private int sum;
+        private long runStart;
+        private long matches;
+
+        // Scans text[from] up to text[to], where the offset of text[i] is base + i
+        void chars(char[] text, int from, int to, long base, MatchHandler handler) {
+            int[] transitions = ElbonianScanner.this.transitions;
+            int[] values = ElbonianScanner.this.values;
+            int state = this.state;
+            int sum = this.sum;
+            for (int i = from; i < to; i++) {
+                char c = text[i];
+                int next = transitions[state + (c < 128 ? c : otherClass(c))];
+                if (next >= RUN * CLASSES) {
+                    if (state < RUN * CLASSES) {
+                        runStart = base + i;
+                        sum = 0;
+                    }
+                    sum += values[c];
+                } else if (state >= RUN * CLASSES && next == IDLE) {
+                    match(base + i, sum, handler);
+                }
+                state = next;
+            }
+            this.state = state;
+            this.sum = sum;
+        }
+
+        // Scans the remaining bytes of a buffer, where the offset of the byte at index i is base + i
+        void bytes(ByteBuffer text, long base, MatchHandler handler) {
+            int[] transitions = ElbonianScanner.this.transitions;
+            int[] values = ElbonianScanner.this.values;
+            int other = boundary == Boundary.NONE ? OTHER_BOUNDARY : OTHER_WORD;
+            int state = this.state;
+            int sum = this.sum;
+            int limit = text.limit();
+            for (int i = text.position(); i < limit; i++) {
+                int c = text.get(i);
+                if (c < 0) {
+                    c = other;
+                }
+                int next = transitions[state + c];
+                if (next >= RUN * CLASSES) {
+                    if (state < RUN * CLASSES) {
+                        runStart = base + i;
+                        sum = 0;
+                    }
+                    sum += values[c];
+                } else if (state >= RUN * CLASSES && next == IDLE) {
+                    match(base + i, sum, handler);
+                }
+                state = next;
+            }
+            this.state = state;
+            this.sum = sum;
+        }
+
+        // Reports the numeral that is still open at the end of the text
+        void finish(long end, MatchHandler handler) {
+            if (state >= RUN * CLASSES) {
+                match(end, sum, handler);
+            }
+            state = IDLE;
+        }
+
+        private void match(long end, int value, MatchHandler handler) {
+            if (value >= ElbonianTables.MIN_VALUE && value <= ElbonianTables.MAX_VALUE) {
+                matches++;
+                handler.onMatch(runStart, (int) (end - runStart), value);
+            }
+        }
+    }
+
+    private int otherClass(char c) {
+        return boundary != Boundary.NONE && !isBoundary(c) ? OTHER_WORD : OTHER_BOUNDARY;
+    }
+}
@@ -0,0 +1,151 @@
+package converter;
+
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+
+import java.util.List;
+import java.util.ListIterator;
+
+/**
+ * Sorts numerals by value with a counting sort. Every element is parsed once, following the rules of the
+ * ElbonianArabicConverter constructor, and since there are only ElbonianTables.MAX_VALUE values the sort
+ * takes O(n + MAX_VALUE) time instead of parsing both numerals of every comparison. The sorts are stable:
+ * elements with the same value, such as "12" and "XII", keep their order.
+ *
+ * @version 10/16/26
+ */
+public final class ElbonianSort {
+
+    /**
+     * What to do with elements that cannot be parsed.
+     */
+    public enum MalformedPolicy {
+        /**
+         * Moves them before every valid numeral, keeping their order.
+         */
+        FIRST,
+        /**
+         * Moves them after every valid numeral, keeping their order.
+         */
+        LAST,
+        /**
+         * Throws the exception the ElbonianArabicConverter constructor would throw for the first of them,
+         * leaving the input unchanged.
+         */
+        REJECT
+    }
+
+    // The key of elements sorted first and last, on either side of the values
+    private static final int FIRST_KEY = 0;
+    private static final int LAST_KEY = ElbonianTables.MAX_VALUE + 1;
+
+    private ElbonianSort() {
+    }
+
+    /**
+     * Sorts an array of numerals by value.
+     *
+     * @param numbers The Arabic or Elbonian numerals to sort
+     * @param policy  What to do with elements that cannot be parsed
+     * @throws MalformedNumberException  Thrown if the policy is REJECT and an element is malformed
+     * @throws ValueOutOfBoundsException Thrown if the policy is REJECT and an element is an Arabic numeral that
+     *                                   cannot be represented in the Elbonian number system
+     */
+    public static void sort(String[] numbers, MalformedPolicy policy)
+            throws MalformedNumberException, ValueOutOfBoundsException {
+        String[] sorted = sorted(numbers, policy);
+        System.arraycopy(sorted, 0, numbers, 0, numbers.length);
+    }
+
+    /**
+     * Sorts a list of numerals by value. The list is copied to an array, sorted and written back, like
+     * List.sort does.
+     *
+     * @param numbers The Arabic or Elbonian numerals to sort, in a list that supports set
+     * @param policy  What to do with elements that cannot be parsed
+     * @throws MalformedNumberException  Thrown if the policy is REJECT and an element is malformed
+     * @throws ValueOutOfBoundsException Thrown if the policy is REJECT and an element is an Arabic numeral that
+     *                                   cannot be represented in the Elbonian number system
+     */
+    public static void sort(List<String> numbers, MalformedPolicy policy)
+            throws MalformedNumberException, ValueOutOfBoundsException {
+        String[] sorted = sorted(numbers.toArray(new String[0]), policy);
+        ListIterator<String> iterator = numbers.listIterator();
+        for (String number : sorted) {
+            iterator.next();
+            iterator.set(number);
+        }
+    }
+
+    /**
+     * Sorts values in ascending order with a counting sort over the values of the Elbonian number system.
+     * Values outside ElbonianTables.MIN_VALUE..ElbonianTables.MAX_VALUE are handled like elements that cannot
+     * be parsed.
+     *
+     * @param values The values to sort
+     * @param policy What to do with values that cannot be represented in the Elbonian number system
+     * @throws ValueOutOfBoundsException Thrown if the policy is REJECT and a value is out of bounds, in which
+     *                                   case the values are unchanged and the position is the index of the
+     *                                   first value out of bounds
+     */
+    public static void sort(short[] values, MalformedPolicy policy) throws ValueOutOfBoundsException {
+        int[] counts = new int[LAST_KEY];
+        int outside = 0;
+        for (int i = 0; i < values.length; i++) {
+            int value = values[i];
+            if (value >= ElbonianTables.MIN_VALUE && value <= ElbonianTables.MAX_VALUE) {
+                counts[value]++;
+            } else if (policy == MalformedPolicy.REJECT) {
+                throw new ValueOutOfBoundsException(i);
+            } else {
+                outside++;
+            }
+        }
+        // The values out of bounds keep their order, before or after all the others
+        short[] others = new short[outside];
+        int other = 0;
+        for (int i = 0; other < outside; i++) {
+            if (values[i] < ElbonianTables.MIN_VALUE || values[i] > ElbonianTables.MAX_VALUE) {
+                others[other++] = values[i];
+            }
+        }
+        int index = policy == MalformedPolicy.FIRST ? outside : 0;
+        System.arraycopy(others, 0, values, index == 0 ? values.length - outside : 0, outside);
+        for (int key = ElbonianTables.MIN_VALUE; key <= ElbonianTables.MAX_VALUE; key++) {
+            for (int count = counts[key]; count > 0; count--) {
+                values[index++] = (short) key;
+            }
+        }
+    }
+
+    private static String[] sorted(String[] numbers, MalformedPolicy policy)
+            throws MalformedNumberException, ValueOutOfBoundsException {
+        short[] keys = new short[numbers.length];
+        int[] starts = new int[LAST_KEY + 2];
+        for (int i = 0; i < numbers.length; i++) {
+            long result = ElbonianArabicConverter.tryParse(numbers[i]);
+            int key;
+            if (ParseResult.isSuccess(result)) {
+                key = ParseResult.value(result);
+            } else if (policy == MalformedPolicy.FIRST) {
+                key = FIRST_KEY;
+            } else if (policy == MalformedPolicy.LAST) {
+                key = LAST_KEY;
+            } else {
+                // Always throws for a failed result
+                key = ParseResult.valueOrThrow(result);
+            }
+            keys[i] = (short) key;
+            starts[key + 1]++;
+        }
+        // Turn the counts into the index of the first element of every key
+        for (int key = 1; key < starts.length; key++) {
+            starts[key] += starts[key - 1];
+        }
+        String[] sorted = new String[numbers.length];
+        for (int i = 0; i < numbers.length; i++) {
+            sorted[starts[keys[i]]++] = numbers[i];
+        }
+        return sorted;
+    }
+}
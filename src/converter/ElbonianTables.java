@@ -0,0 +1,68 @@
+package converter;
+
+/**
+ * Shared, immutable lookup tables for the Elbonian number system. The whole domain is only 1..2999, so
+ * every Arabic to Elbonian conversion is computed once, when NumeralSystem.ELBONIAN is built, and every
+ * later conversion is a plain array lookup.
+ *
+ * @version 10/16/26
+ */
+public final class ElbonianTables {
+
+    /**
+     * The smallest value that can be represented by an Elbonian numeral.
+     */
+    public static final int MIN_VALUE = 1;
+
+    /**
+     * The largest value that can be represented by an Elbonian numeral.
+     */
+    public static final int MAX_VALUE = 2999;
+
+    /**
+     * The number of characters in the longest Elbonian numeral, MMECCZXXKII.
+     */
+    public static final int MAX_LENGTH = 11;
+
+    static {
+        NumeralSystem elbonian = NumeralSystem.ELBONIAN;
+        if (elbonian.getMinValue() != MIN_VALUE || elbonian.getMaxValue() != MAX_VALUE
+                || elbonian.getMaxLength() != MAX_LENGTH) {
+            throw new IllegalStateException("Elbonian constants do not match the Elbonian numeral system");
+        }
+    }
+
+    private ElbonianTables() {
+    }
+
+    /**
+     * Returns the position of an Elbonian symbol in the ordering from the smallest to the largest value.
+     *
+     * @param c The character to look up
+     * @return The rank of the symbol (0 for I up to 9 for M), or -1 if the character is not an Elbonian symbol
+     */
+    public static int rank(char c) {
+        return NumeralSystem.ELBONIAN.rank(c);
+    }
+
+    /**
+     * Returns the value of a single Elbonian symbol.
+     *
+     * @param c The character to look up
+     * @return The value of the symbol, or 0 if the character is not an Elbonian symbol
+     */
+    public static int valueOf(char c) {
+        return NumeralSystem.ELBONIAN.valueOf(c);
+    }
+
+    /**
+     * Returns the canonical Elbonian numeral for a value. The returned string is shared and never rebuilt.
+     *
+     * @param value A value between MIN_VALUE and MAX_VALUE
+     * @return The Elbonian numeral for the value
+     * @throws IllegalArgumentException Thrown if the value cannot be represented in the Elbonian number system
+     */
+    public static String toElbonian(int value) {
+        return NumeralSystem.ELBONIAN.toNumeral(value);
+    }
+}
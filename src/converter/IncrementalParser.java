@@ -0,0 +1,311 @@
+package converter;
+
+import converter.exceptions.FailureReason;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Parses one Elbonian or Arabic numeral a character at a time, for numerals that arrive split across the
+ * reads of a socket or a stream, so the characters never have to be collected into a String first. What
+ * the characters read so far mean is packed into one long that a pure function advances character by
+ * character. Beside it the parser only counts the characters read and remembers where a failure happened,
+ * so neither accepting characters nor reset allocates.
+ * <p>
+ * After every character the parser knows the value read so far, whether the characters can still become a
+ * valid numeral and which characters may come next. A numeral that cannot become valid any more is rejected
+ * at the character that ruled it out, so the reason and position of the failure can differ from those the
+ * ElbonianArabicConverter constructor gives for the whole token. Whether the token is accepted, and its
+ * value, are always the same. A parser is not thread safe.
+ *
+ * @version 10/16/26
+ */
+public final class IncrementalParser {
+
+    // What the characters read so far are
+    private static final int LEADING = 0;
+    private static final int ARABIC = 1;
+    private static final int ELBONIAN = 2;
+    private static final int TRAILING = 3;
+    private static final int FAILED = 4;
+
+    // The fields packed into the state: the mode above, the value read so far, the digits since the last
+    // comma and whether there was a comma for an Arabic numeral, the form of a complete numeral followed by
+    // spaces, the reason of a failure and the state of the automaton for an Elbonian numeral
+    private static final long MODE_MASK = 0x7L;
+    private static final int VALUE_SHIFT = 8;
+    private static final long VALUE_MASK = 0xFFFFL << VALUE_SHIFT;
+    private static final int GROUP_SHIFT = 24;
+    private static final long GROUP_MASK = 0x7L;
+    private static final long COMMA = 1L << 27;
+    private static final long ELBONIAN_FORM = 1L << 28;
+    private static final int REASON_SHIFT = 32;
+    private static final long REASON_MASK = 0xFFL;
+    private static final int AUTOMATON_SHIFT = 40;
+
+    // The printable ASCII characters that allowedCharacters considers
+    private static final char FIRST_PRINTABLE = ' ';
+    private static final char LAST_PRINTABLE = '~';
+
+    private static final FailureReason[] REASONS = FailureReason.values();
+    private static final NumeralAutomaton AUTOMATON = NumeralSystem.ELBONIAN.automaton();
+
+    private long state;
+    private long position;
+    private long failedAt;
+
+    /**
+     * Constructor for a parser that has not read any characters.
+     */
+    public IncrementalParser() {
+    }
+
+    /**
+     * Forgets every character read, so the parser can read the next numeral.
+     */
+    public void reset() {
+        state = LEADING;
+        position = 0;
+        failedAt = 0;
+    }
+
+    /**
+     * Reads one more character.
+     *
+     * @param c The character to read
+     * @return True if the characters read so far can still become a valid numeral
+     */
+    public boolean accept(char c) {
+        long next = next(state, c);
+        if ((next & MODE_MASK) == FAILED && (state & MODE_MASK) != FAILED) {
+            failedAt = position;
+        }
+        state = next;
+        position++;
+        return (next & MODE_MASK) != FAILED;
+    }
+
+    /**
+     * Reads one more ASCII byte. Every byte outside ASCII is an illegal character.
+     *
+     * @param b The byte to read
+     * @return True if the characters read so far can still become a valid numeral
+     */
+    public boolean accept(byte b) {
+        return accept((char) (b & 0xFF));
+    }
+
+    /**
+     * Reads a slice of a character array.
+     *
+     * @param chars  The characters to read
+     * @param offset The index of the first character to read
+     * @param length The number of characters to read
+     * @return True if the characters read so far can still become a valid numeral
+     */
+    public boolean accept(char[] chars, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > chars.length) {
+            throw new IndexOutOfBoundsException("Range " + offset + ".." + (offset + length) + " is outside 0.."
+                    + chars.length);
+        }
+        for (int i = offset; i < offset + length; i++) {
+            accept(chars[i]);
+        }
+        return isViable();
+    }
+
+    /**
+     * Reads the remaining ASCII bytes of a buffer and advances its position to its limit.
+     *
+     * @param bytes The bytes to read
+     * @return True if the characters read so far can still become a valid numeral
+     */
+    public boolean accept(ByteBuffer bytes) {
+        int limit = bytes.limit();
+        for (int i = bytes.position(); i < limit; i++) {
+            accept(bytes.get(i));
+        }
+        bytes.position(limit);
+        return isViable();
+    }
+
+    /**
+     * @return The number of characters read since the parser was created or reset
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * Returns the value of the characters read so far: the total of the Elbonian symbols or the value of the
+     * Arabic digits, and 0 before the first of them. After a failure it is the value before the character
+     * that was rejected.
+     *
+     * @return The value read so far
+     */
+    public int getValue() {
+        return (int) ((state & VALUE_MASK) >>> VALUE_SHIFT);
+    }
+
+    /**
+     * @return True if the characters read so far are a valid numeral, or can still become one
+     */
+    public boolean isViable() {
+        return (state & MODE_MASK) != FAILED;
+    }
+
+    /**
+     * @return True if the characters read so far are a valid numeral as they are
+     */
+    public boolean isComplete() {
+        return ParseResult.isSuccess(result());
+    }
+
+    /**
+     * Tells whether a character may come next, without reading it.
+     *
+     * @param c The character that might come next
+     * @return True if the characters read so far followed by c can still become a valid numeral
+     */
+    public boolean isAllowed(char c) {
+        return (next(state, c) & MODE_MASK) != FAILED;
+    }
+
+    /**
+     * Returns every printable ASCII character that may come next, for messages and completion. Unlike the
+     * other methods it allocates the string it returns.
+     *
+     * @return The characters for which isAllowed is true, in ASCII order
+     */
+    public String allowedCharacters() {
+        StringBuilder allowed = new StringBuilder();
+        for (char c = FIRST_PRINTABLE; c <= LAST_PRINTABLE; c++) {
+            if (isAllowed(c)) {
+                allowed.append(c);
+            }
+        }
+        return allowed.toString();
+    }
+
+    /**
+     * Returns the result of parsing the characters read so far as a whole token. It is a success exactly
+     * when the ElbonianArabicConverter constructor accepts the same characters, with the same value.
+     *
+     * @return The parsed value, or the reason and position of the failure, as a ParseResult
+     */
+    public long result() {
+        int value = getValue();
+        switch ((int) (state & MODE_MASK)) {
+            case LEADING:
+                return ParseResult.failure(FailureReason.EMPTY, -1);
+            case ARABIC:
+                if ((state & COMMA) != 0 && (state >>> GROUP_SHIFT & GROUP_MASK) != 3) {
+                    return ParseResult.failure(FailureReason.BAD_COMMAS, clamp(position - 1));
+                }
+                return ParseResult.success(value, false);
+            case ELBONIAN:
+                return ParseResult.success(value, true);
+            case TRAILING:
+                return ParseResult.success(value, (state & ELBONIAN_FORM) != 0);
+            default:
+                return ParseResult.failure(REASONS[(int) (state >>> REASON_SHIFT & REASON_MASK)], clamp(failedAt));
+        }
+    }
+
+    private static int clamp(long position) {
+        return (int) Math.min(position, Integer.MAX_VALUE);
+    }
+
+    // Returns the state after reading c in state
+    private static long next(long state, char c) {
+        int value = (int) ((state & VALUE_MASK) >>> VALUE_SHIFT);
+        switch ((int) (state & MODE_MASK)) {
+            case LEADING:
+                if (c == ' ') {
+                    return state;
+                }
+                if (c >= '1' && c <= '9') {
+                    return ARABIC | (long) (c - '0') << VALUE_SHIFT | 1L << GROUP_SHIFT;
+                }
+                if (c == '0') {
+                    return fail(state, FailureReason.LEADING_ZERO);
+                }
+                if (c == '-') {
+                    return fail(state, FailureReason.OUT_OF_RANGE);
+                }
+                return symbol(state, NumeralAutomaton.START, value, c);
+            case ARABIC:
+                return digit(state, value, c);
+            case ELBONIAN:
+                if (c == ' ') {
+                    return state & VALUE_MASK | ELBONIAN_FORM | TRAILING;
+                }
+                return symbol(state, (int) (state >>> AUTOMATON_SHIFT), value, c);
+            case TRAILING:
+                return c == ' ' ? state : fail(state, FailureReason.WHITESPACE);
+            default:
+                return state;
+        }
+    }
+
+    // Reads c after the symbols of an Elbonian numeral, or as its first symbol
+    private static long symbol(long state, int from, int value, char c) {
+        int rank = AUTOMATON.rank(c);
+        if (rank < 0) {
+            return fail(state, misplaced(c));
+        }
+        int to = AUTOMATON.next(from, rank);
+        if (to < 0) {
+            return fail(state, REASONS[-1 - to]);
+        }
+        int sum = value + NumeralSystem.ELBONIAN.valueOf(c);
+        if (sum > ElbonianTables.MAX_VALUE) {
+            return fail(state, FailureReason.OUT_OF_RANGE);
+        }
+        return ELBONIAN | (long) sum << VALUE_SHIFT | (long) to << AUTOMATON_SHIFT;
+    }
+
+    // Reads c after the digits of an Arabic numeral
+    private static long digit(long state, int value, char c) {
+        int group = (int) (state >>> GROUP_SHIFT & GROUP_MASK);
+        boolean comma = (state & COMMA) != 0;
+        if (c >= '0' && c <= '9') {
+            if (comma && group == 3) {
+                return fail(state, FailureReason.BAD_COMMAS);
+            }
+            int next = value * 10 + (c - '0');
+            group++;
+            // After a comma the group still has to be filled up to three digits
+            int least = comma ? next * (group == 1 ? 100 : group == 2 ? 10 : 1) : next;
+            if (least > ElbonianTables.MAX_VALUE) {
+                return fail(state, FailureReason.OUT_OF_RANGE);
+            }
+            return ARABIC | (long) next << VALUE_SHIFT | (long) group << GROUP_SHIFT | (comma ? COMMA : 0);
+        }
+        if (c == ',') {
+            if (comma ? group != 3 : group > 3) {
+                return fail(state, FailureReason.BAD_COMMAS);
+            }
+            if (value * 1000 > ElbonianTables.MAX_VALUE) {
+                return fail(state, FailureReason.OUT_OF_RANGE);
+            }
+            return ARABIC | (long) value << VALUE_SHIFT | COMMA;
+        }
+        if (c == ' ') {
+            if (comma && group != 3) {
+                return fail(state, FailureReason.BAD_COMMAS);
+            }
+            return state & VALUE_MASK | TRAILING;
+        }
+        return fail(state, c == '.' ? FailureReason.DECIMAL : misplaced(c));
+    }
+
+    // The reason to reject a character that is neither a digit nor a symbol
+    private static FailureReason misplaced(char c) {
+        boolean whitespace = c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+        return whitespace ? FailureReason.WHITESPACE : FailureReason.ILLEGAL_CHARACTER;
+    }
+
+    private static long fail(long state, FailureReason reason) {
+        return state & VALUE_MASK | (long) reason.ordinal() << REASON_SHIFT | FAILED;
+    }
+}
@@ -0,0 +1,290 @@
+package converter;
+
+import converter.exceptions.FailureReason;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A table driven finite automaton that validates a numeral of a NumeralSystem and totals its value in a
+ * single left to right pass. The ordering, repeat count and forbidden combination rules are all compiled
+ * into one transition table when the system is built, so validating a numeral never allocates.
+ * <p>
+ * The automaton reads symbols, which are usually single characters. A symbol can also be a sequence of
+ * characters, like the subtractive pairs of Roman numerals, in which case the longest symbol that matches
+ * is read.
+ *
+ * @version 10/16/26
+ */
+final class NumeralAutomaton {
+
+    /**
+     * The state before any symbol has been read.
+     */
+    static final int START = 0;
+
+    private static final FailureReason[] REASONS = FailureReason.values();
+
+    // The symbols ordered from the smallest to the largest value, and their values
+    private final String[] symbols;
+    private final int[] values;
+    private final int minValue;
+    private final int maxValue;
+    // Index into symbols of the single character symbol for every ASCII character, -1 if there is none
+    private final byte[] ranks = new byte[128];
+    // For every ASCII character that starts a longer symbol, the symbols it starts from the longest to the
+    // shortest, and null for the other characters
+    private final int[][] candidates = new int[128][];
+    // True if every symbol is a single character, so that parse can skip the longest match
+    private final boolean singleCharacters;
+    // Next state for every state and symbol rank, or -1 - the ordinal of the FailureReason
+    private final short[] transitions;
+
+    /**
+     * Compiles the rules of a numeral system.
+     *
+     * @param symbols          The symbols ordered from the smallest to the largest value
+     * @param values           The value of every symbol
+     * @param maxRepeats       How many times every symbol may appear in a single numeral
+     * @param forbidden        Sets of symbols that may never all appear in the same numeral, as bit masks over
+     *                         the symbol ranks
+     * @param forbiddenReasons The reason reported when a numeral completes each forbidden set
+     * @param minValue         The smallest value a numeral may have
+     * @param maxValue         The largest value a numeral may have
+     */
+    NumeralAutomaton(String[] symbols, int[] values, int[] maxRepeats, int[] forbidden,
+                     FailureReason[] forbiddenReasons, int minValue, int maxValue) {
+        this.symbols = symbols.clone();
+        this.values = values.clone();
+        this.minValue = minValue;
+        this.maxValue = maxValue;
+        int symbolCount = symbols.length;
+        for (int c = 0; c < ranks.length; c++) {
+            ranks[c] = -1;
+        }
+        for (int rank = 0; rank < symbolCount; rank++) {
+            String symbol = symbols[rank];
+            if (symbol.length() == 1) {
+                ranks[symbol.charAt(0)] = (byte) rank;
+            }
+        }
+        boolean single = true;
+        for (String symbol : symbols) {
+            single &= symbol.length() == 1;
+        }
+        singleCharacters = single;
+        for (int c = 0; c < candidates.length; c++) {
+            List<Integer> starting = new ArrayList<>();
+            boolean longer = false;
+            for (int rank = 0; rank < symbolCount; rank++) {
+                if (symbols[rank].charAt(0) == c) {
+                    starting.add(rank);
+                    longer |= symbols[rank].length() > 1;
+                }
+            }
+            if (longer) {
+                starting.sort((a, b) -> symbols[b].length() - symbols[a].length());
+                candidates[c] = new int[starting.size()];
+                for (int i = 0; i < starting.size(); i++) {
+                    candidates[c][i] = starting.get(i);
+                }
+            }
+        }
+
+        // Each state is the last symbol read, how often it was repeated, and the symbols seen so far that
+        // can still complete a forbidden combination. Anything else about the prefix cannot change the outcome.
+        List<int[]> states = new ArrayList<>();
+        Map<Long, Integer> stateNumbers = new HashMap<>();
+        states.add(new int[]{symbolCount, 0, 0});
+        stateNumbers.put(key(symbolCount, 0, 0), START);
+        List<Short> table = new ArrayList<>();
+        for (int state = 0; state < states.size(); state++) {
+            int last = states.get(state)[0];
+            int count = states.get(state)[1];
+            int seen = states.get(state)[2];
+            for (int rank = 0; rank < symbolCount; rank++) {
+                int nextCount = rank == last ? count + 1 : 1;
+                int nextSeen = live(forbidden, seen | 1 << rank, rank);
+                int completed = completedForbidden(forbidden, seen | 1 << rank);
+                if (rank > last) {
+                    table.add(failure(FailureReason.BAD_ORDER));
+                } else if (nextCount > maxRepeats[rank]) {
+                    table.add(failure(FailureReason.TOO_MANY_REPEATS));
+                } else if (completed >= 0) {
+                    table.add(failure(forbiddenReasons[completed]));
+                } else {
+                    Integer next = stateNumbers.get(key(rank, nextCount, nextSeen));
+                    if (next == null) {
+                        next = states.size();
+                        if (next > Short.MAX_VALUE) {
+                            throw new IllegalArgumentException("Numeral system rules need too many states");
+                        }
+                        states.add(new int[]{rank, nextCount, nextSeen});
+                        stateNumbers.put(key(rank, nextCount, nextSeen), next);
+                    }
+                    table.add((short) (int) next);
+                }
+            }
+        }
+        transitions = new short[table.size()];
+        for (int i = 0; i < transitions.length; i++) {
+            transitions[i] = table.get(i);
+        }
+    }
+
+    private static long key(int last, int count, int seen) {
+        return ((long) last << 40) | ((long) count << 32) | (seen & 0xFFFFFFFFL);
+    }
+
+    private static short failure(FailureReason reason) {
+        return (short) (-1 - reason.ordinal());
+    }
+
+    // Keeps only the seen symbols of combinations that can still be completed once rank has been read
+    private static int live(int[] forbidden, int seen, int rank) {
+        int kept = 0;
+        int larger = -1 << (rank + 1);
+        for (int combination : forbidden) {
+            // Symbols larger than rank can no longer be read, so they must all have been seen already
+            if ((combination & larger & ~seen) == 0) {
+                kept |= combination & seen;
+            }
+        }
+        return kept;
+    }
+
+    // Returns the index of the first forbidden combination that is completely seen, or -1 if there is none
+    private static int completedForbidden(int[] forbidden, int seen) {
+        for (int i = 0; i < forbidden.length; i++) {
+            if ((forbidden[i] & seen) == forbidden[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the rank of a single character symbol.
+     *
+     * @param c The character to look up
+     * @return The index of the symbol in the order from the smallest to the largest value, or -1 if the
+     * character is not a symbol by itself
+     */
+    int rank(char c) {
+        return c < ranks.length ? ranks[c] : -1;
+    }
+
+    /**
+     * @return The number of states, which are numbered from START
+     */
+    int stateCount() {
+        return transitions.length / values.length;
+    }
+
+    /**
+     * Returns the state after reading one more symbol.
+     *
+     * @param state The current state
+     * @param rank  The rank of the symbol read
+     * @return The next state, or a negative number if the symbol is rejected
+     */
+    int next(int state, int rank) {
+        return transitions[state * values.length + rank];
+    }
+
+    // Returns the rank of the longest symbol that starts at index i, or -1 if there is none
+    private int symbolAt(CharSequence string, int i, int end) {
+        char c = string.charAt(i);
+        if (c >= ranks.length) {
+            return -1;
+        }
+        int[] longer = candidates[c];
+        if (longer == null) {
+            return ranks[c];
+        }
+        for (int rank : longer) {
+            String symbol = symbols[rank];
+            if (matches(string, i, end, symbol)) {
+                return rank;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean matches(CharSequence string, int i, int end, String symbol) {
+        if (end - i < symbol.length()) {
+            return false;
+        }
+        for (int j = 1; j < symbol.length(); j++) {
+            if (string.charAt(i + j) != symbol.charAt(j)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Validates the numeral in a range of characters and totals its value.
+     *
+     * @param string The characters to read
+     * @param start  The index of the first character of the numeral
+     * @param end    The index after the last character of the numeral, greater than start
+     * @return The value of the numeral or the reason and the position of the first character of the first
+     * rejected symbol, as a ParseResult. A valid numeral whose value is out of bounds is rejected at start.
+     */
+    long parse(CharSequence string, int start, int end) {
+        if (!singleCharacters) {
+            return parseSymbols(string, start, end);
+        }
+        // The tables are copied to locals so that the loop does not reload them after every character
+        byte[] ranks = this.ranks;
+        short[] transitions = this.transitions;
+        int[] values = this.values;
+        int symbolCount = values.length;
+        int state = START;
+        int sum = 0;
+        for (int i = start; i < end; i++) {
+            char c = string.charAt(i);
+            int rank = c < ranks.length ? ranks[c] : -1;
+            if (rank < 0) {
+                return ParseResult.failure(FailureReason.ILLEGAL_CHARACTER, i);
+            }
+            state = transitions[state * symbolCount + rank];
+            if (state < 0) {
+                return ParseResult.failure(REASONS[-1 - state], i);
+            }
+            sum += values[rank];
+        }
+        return checkBounds(sum, start);
+    }
+
+    // Parses like parse when some symbols are longer than one character
+    private long parseSymbols(CharSequence string, int start, int end) {
+        int symbolCount = symbols.length;
+        int state = START;
+        int sum = 0;
+        int i = start;
+        while (i < end) {
+            int rank = symbolAt(string, i, end);
+            if (rank < 0) {
+                return ParseResult.failure(FailureReason.ILLEGAL_CHARACTER, i);
+            }
+            state = transitions[state * symbolCount + rank];
+            if (state < 0) {
+                return ParseResult.failure(REASONS[-1 - state], i);
+            }
+            sum += values[rank];
+            i += symbols[rank].length();
+        }
+        return checkBounds(sum, start);
+    }
+
+    private long checkBounds(int sum, int start) {
+        if (sum < minValue || sum > maxValue) {
+            return ParseResult.failure(FailureReason.OUT_OF_RANGE, start);
+        }
+        return ParseResult.success(sum, true);
+    }
+}
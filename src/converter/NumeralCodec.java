@@ -0,0 +1,231 @@
+package converter;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+
+/**
+ * Reads and writes Arabic and Elbonian numerals directly from and to character sequences, character arrays
+ * and buffers of ASCII bytes, without building an intermediate String. Decoding follows the rules of the
+ * ElbonianArabicConverter constructor and returns a ParseResult.
+ *
+ * @version 10/16/26
+ */
+public final class NumeralCodec {
+
+    // The longest Arabic numeral that is written, 2999
+    private static final int MAX_ARABIC_LENGTH = 4;
+
+    private NumeralCodec() {
+    }
+
+    /**
+     * Parses an Arabic or Elbonian numeral from a range of characters.
+     *
+     * @param chars The characters to read
+     * @param start The index of the first character of the numeral
+     * @param end   The index after the last character of the numeral
+     * @return The parsed value, or the reason and the index in chars of the failure, as a ParseResult
+     */
+    public static long decode(CharSequence chars, int start, int end) {
+        checkRange(start, end, chars.length());
+        return ElbonianArabicConverter.tryParse(chars, start, end);
+    }
+
+    /**
+     * Parses an Arabic or Elbonian numeral from a slice of a character array.
+     *
+     * @param chars  The characters to read
+     * @param offset The index of the first character of the numeral
+     * @param length The number of characters in the numeral
+     * @return The parsed value, or the reason and the index in chars of the failure, as a ParseResult
+     */
+    public static long decode(char[] chars, int offset, int length) {
+        checkRange(offset, offset + length, chars.length);
+        return ElbonianArabicConverter.tryParse(CharBuffer.wrap(chars), offset, offset + length);
+    }
+
+    /**
+     * Parses an Arabic or Elbonian numeral from a region of ASCII bytes. The position and limit of the buffer
+     * are not changed.
+     *
+     * @param bytes  The bytes to read
+     * @param offset The absolute index of the first byte of the numeral
+     * @param length The number of bytes in the numeral
+     * @return The parsed value, or the reason and the absolute index in bytes of the failure, as a ParseResult
+     */
+    public static long decode(ByteBuffer bytes, int offset, int length) {
+        checkRange(offset, offset + length, bytes.limit());
+        return ElbonianArabicConverter.tryParse(new AsciiSequence(bytes), offset, offset + length);
+    }
+
+    /**
+     * Writes the Elbonian numeral for a value as ASCII bytes at the position of a buffer and advances it.
+     *
+     * @param value A value between ElbonianTables.MIN_VALUE and ElbonianTables.MAX_VALUE
+     * @param out   The buffer to write to
+     * @return The number of bytes written
+     * @throws IllegalArgumentException Thrown if the value cannot be represented in the Elbonian number system
+     * @throws BufferOverflowException  Thrown if the numeral does not fit, in which case nothing is written
+     */
+    public static int encodeElbonian(int value, ByteBuffer out) {
+        String elbonian = ElbonianTables.toElbonian(value);
+        int length = elbonian.length();
+        if (out.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+        for (int i = 0; i < length; i++) {
+            out.put((byte) elbonian.charAt(i));
+        }
+        return length;
+    }
+
+    /**
+     * Writes the Elbonian numeral for a value into a character array.
+     *
+     * @param value  A value between ElbonianTables.MIN_VALUE and ElbonianTables.MAX_VALUE
+     * @param out    The array to write to
+     * @param offset The index of the first character to write
+     * @return The number of characters written
+     * @throws IllegalArgumentException Thrown if the value cannot be represented in the Elbonian number system
+     * @throws IndexOutOfBoundsException Thrown if the numeral does not fit, in which case nothing is written
+     */
+    public static int encodeElbonian(int value, char[] out, int offset) {
+        String elbonian = ElbonianTables.toElbonian(value);
+        elbonian.getChars(0, elbonian.length(), out, offset);
+        return elbonian.length();
+    }
+
+    /**
+     * Appends the Elbonian numeral for a value.
+     *
+     * @param value A value between ElbonianTables.MIN_VALUE and ElbonianTables.MAX_VALUE
+     * @param out   The destination to append to
+     * @return The number of characters written
+     * @throws IllegalArgumentException Thrown if the value cannot be represented in the Elbonian number system
+     * @throws IOException              Thrown if the destination fails to append
+     */
+    public static int encodeElbonian(int value, Appendable out) throws IOException {
+        String elbonian = ElbonianTables.toElbonian(value);
+        out.append(elbonian);
+        return elbonian.length();
+    }
+
+    /**
+     * Writes the Arabic numeral for a value, without commas, as ASCII bytes at the position of a buffer and
+     * advances it.
+     *
+     * @param value A value between ElbonianTables.MIN_VALUE and ElbonianTables.MAX_VALUE
+     * @param out   The buffer to write to
+     * @return The number of bytes written
+     * @throws IllegalArgumentException Thrown if the value cannot be represented in the Elbonian number system
+     * @throws BufferOverflowException  Thrown if the numeral does not fit, in which case nothing is written
+     */
+    public static int encodeArabic(int value, ByteBuffer out) {
+        int length = arabicLength(value);
+        if (out.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+        for (int divisor = pow10(length - 1); divisor > 0; divisor /= 10) {
+            out.put((byte) ('0' + value / divisor % 10));
+        }
+        return length;
+    }
+
+    /**
+     * Writes the Arabic numeral for a value, without commas, into a character array.
+     *
+     * @param value  A value between ElbonianTables.MIN_VALUE and ElbonianTables.MAX_VALUE
+     * @param out    The array to write to
+     * @param offset The index of the first character to write
+     * @return The number of characters written
+     * @throws IllegalArgumentException  Thrown if the value cannot be represented in the Elbonian number system
+     * @throws IndexOutOfBoundsException Thrown if the numeral does not fit, in which case nothing is written
+     */
+    public static int encodeArabic(int value, char[] out, int offset) {
+        int length = arabicLength(value);
+        if (offset < 0 || offset + length > out.length) {
+            throw new IndexOutOfBoundsException("No room for " + length + " characters at " + offset);
+        }
+        for (int i = offset + length - 1; i >= offset; i--) {
+            out[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return length;
+    }
+
+    /**
+     * Appends the Arabic numeral for a value, without commas.
+     *
+     * @param value A value between ElbonianTables.MIN_VALUE and ElbonianTables.MAX_VALUE
+     * @param out   The destination to append to
+     * @return The number of characters written
+     * @throws IllegalArgumentException Thrown if the value cannot be represented in the Elbonian number system
+     * @throws IOException              Thrown if the destination fails to append
+     */
+    public static int encodeArabic(int value, Appendable out) throws IOException {
+        int length = arabicLength(value);
+        for (int divisor = pow10(length - 1); divisor > 0; divisor /= 10) {
+            out.append((char) ('0' + value / divisor % 10));
+        }
+        return length;
+    }
+
+    private static int arabicLength(int value) {
+        if (value < ElbonianTables.MIN_VALUE || value > ElbonianTables.MAX_VALUE) {
+            throw new IllegalArgumentException("Value " + value + " is out of Elbonian number bounds");
+        }
+        return value < 10 ? 1 : value < 100 ? 2 : value < 1000 ? 3 : MAX_ARABIC_LENGTH;
+    }
+
+    private static int pow10(int exponent) {
+        int result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= 10;
+        }
+        return result;
+    }
+
+    private static void checkRange(int start, int end, int length) {
+        if (start < 0 || end < start || end > length) {
+            throw new IndexOutOfBoundsException("Range " + start + ".." + end + " is outside 0.." + length);
+        }
+    }
+
+    /**
+     * A view of a buffer of ASCII bytes as characters, indexed by absolute buffer position.
+     */
+    private static final class AsciiSequence implements CharSequence {
+
+        private final ByteBuffer bytes;
+
+        AsciiSequence(ByteBuffer bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public int length() {
+            return bytes.limit();
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (bytes.get(index) & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            StringBuilder builder = new StringBuilder(end - start);
+            for (int i = start; i < end; i++) {
+                builder.append(charAt(i));
+            }
+            return builder;
+        }
+
+        @Override
+        public String toString() {
+            return subSequence(0, length()).toString();
+        }
+    }
+}
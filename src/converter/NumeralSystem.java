@@ -0,0 +1,365 @@
+package converter;
+
+import converter.exceptions.FailureReason;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A numeral system compiled from a declarative definition: its symbols with their values and how often each
+ * may repeat, the sets of symbols that may not appear together, and the bounds of its values. Building a
+ * system compiles the rules into a NumeralAutomaton and the canonical numeral of every value into a table,
+ * so every system parses and formats on the same allocation free path as the Elbonian numerals.
+ * <p>
+ * Numerals are written from the largest symbol to the smallest. The canonical numeral of a value is the one
+ * found by greedily taking the largest symbols first, and building fails if that numeral breaks the rules
+ * or does not exist for some value in the bounds. Arabic numerals are accepted as well, with the same rules
+ * as the ElbonianArabicConverter constructor, so a successful ParseResult is flagged as Elbonian when it was
+ * parsed from a numeral of this system, whichever system that is.
+ *
+ * @version 10/16/26
+ */
+public final class NumeralSystem {
+
+    /**
+     * The Elbonian number system, which ElbonianArabicConverter implements.
+     */
+    public static final NumeralSystem ELBONIAN = builder("Elbonian")
+            .symbol("M", 1000, 2)
+            .symbol("E", 600, 1)
+            .symbol("D", 300, 1)
+            .symbol("C", 100, 2)
+            .symbol("Z", 60, 1)
+            .symbol("Y", 30, 1)
+            .symbol("X", 10, 2)
+            .symbol("K", 6, 1)
+            .symbol("J", 3, 1)
+            .symbol("I", 1, 2)
+            .forbid("E", "D", "C")
+            .forbid("Z", "Y", "X")
+            .forbid("K", "J", "I")
+            .bounds(1, 2999)
+            .build();
+
+    /**
+     * Standard Roman numerals from I to MMMCMXCIX, with the subtractive pairs as symbols of their own.
+     */
+    public static final NumeralSystem ROMAN = builder("Roman")
+            .symbol("M", 1000, 3)
+            .symbol("CM", 900, 1)
+            .symbol("D", 500, 1)
+            .symbol("CD", 400, 1)
+            .symbol("C", 100, 3)
+            .symbol("XC", 90, 1)
+            .symbol("L", 50, 1)
+            .symbol("XL", 40, 1)
+            .symbol("X", 10, 3)
+            .symbol("IX", 9, 1)
+            .symbol("V", 5, 1)
+            .symbol("IV", 4, 1)
+            .symbol("I", 1, 3)
+            // A subtractive pair replaces the symbols it would otherwise be written with
+            .forbid("CM", "D").forbid("CM", "CD").forbid("CM", "C").forbid("D", "CD").forbid("CD", "C")
+            .forbid("XC", "L").forbid("XC", "XL").forbid("XC", "X").forbid("L", "XL").forbid("XL", "X")
+            .forbid("IX", "V").forbid("IX", "IV").forbid("IX", "I").forbid("V", "IV").forbid("IV", "I")
+            .bounds(1, 3999)
+            .build();
+
+    private final String name;
+    private final int minValue;
+    private final int maxValue;
+    private final int maxLength;
+    private final NumeralAutomaton automaton;
+    // The value of every symbol, by the rank the automaton gives it
+    private final int[] symbolValues;
+    // The canonical numeral for every value in minValue..maxValue
+    private final String[] numerals;
+
+    private NumeralSystem(Builder builder) {
+        List<Symbol> symbols = new ArrayList<>(builder.symbols);
+        if (symbols.isEmpty() || symbols.size() > 31) {
+            throw new IllegalArgumentException("A numeral system needs between 1 and 31 symbols");
+        }
+        symbols.sort(Comparator.comparingInt(symbol -> symbol.value));
+        String[] text = new String[symbols.size()];
+        symbolValues = new int[symbols.size()];
+        int[] maxRepeats = new int[symbols.size()];
+        for (int rank = 0; rank < text.length; rank++) {
+            Symbol symbol = symbols.get(rank);
+            if (rank > 0 && symbol.value == symbolValues[rank - 1]) {
+                throw new IllegalArgumentException("Symbols " + text[rank - 1] + " and " + symbol.text
+                        + " have the same value");
+            }
+            if (Arrays.asList(text).contains(symbol.text)) {
+                throw new IllegalArgumentException("Symbol " + symbol.text + " is defined twice");
+            }
+            text[rank] = symbol.text;
+            symbolValues[rank] = symbol.value;
+            maxRepeats[rank] = symbol.maxRepeats;
+        }
+        int[] forbidden = new int[builder.forbidden.size()];
+        FailureReason[] forbiddenReasons = new FailureReason[forbidden.length];
+        for (int i = 0; i < forbidden.length; i++) {
+            String[] combination = builder.forbidden.get(i);
+            for (String symbol : combination) {
+                int rank = Arrays.asList(text).indexOf(symbol);
+                if (rank < 0) {
+                    throw new IllegalArgumentException("Forbidden symbol " + symbol + " is not defined");
+                }
+                forbidden[i] |= 1 << rank;
+            }
+            forbiddenReasons[i] = combination.length == 3 ? FailureReason.ILLEGAL_TRIPLE
+                    : FailureReason.ILLEGAL_COMBINATION;
+        }
+        if (builder.minValue < 1 || builder.maxValue < builder.minValue || builder.maxValue > 0xFFFF) {
+            throw new IllegalArgumentException("Bounds must be within 1.." + 0xFFFF);
+        }
+        this.name = builder.name;
+        this.minValue = builder.minValue;
+        this.maxValue = builder.maxValue;
+        this.automaton = new NumeralAutomaton(text, symbolValues, maxRepeats, forbidden, forbiddenReasons,
+                minValue, maxValue);
+
+        numerals = new String[maxValue + 1];
+        int longest = 0;
+        StringBuilder numeral = new StringBuilder();
+        for (int value = minValue; value <= maxValue; value++) {
+            numeral.setLength(0);
+            int remaining = value;
+            // Greedily take the largest symbols first, never more often than they are allowed to repeat
+            for (int rank = text.length - 1; rank >= 0; rank--) {
+                for (int count = 0; count < maxRepeats[rank] && remaining >= symbolValues[rank]; count++) {
+                    remaining -= symbolValues[rank];
+                    numeral.append(text[rank]);
+                }
+            }
+            long result = remaining == 0 ? automaton.parse(numeral, 0, numeral.length()) : 0;
+            if (remaining != 0 || !ParseResult.isSuccess(result) || ParseResult.value(result) != value) {
+                throw new IllegalArgumentException("No " + name + " numeral for " + value);
+            }
+            numerals[value] = numeral.toString();
+            longest = Math.max(longest, numeral.length());
+        }
+        this.maxLength = longest;
+    }
+
+    /**
+     * Starts the definition of a numeral system.
+     *
+     * @param name The name of the system, used in error messages
+     * @return A builder for the system
+     */
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    /**
+     * @return The name of the system
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return The smallest value that can be represented
+     */
+    public int getMinValue() {
+        return minValue;
+    }
+
+    /**
+     * @return The largest value that can be represented
+     */
+    public int getMaxValue() {
+        return maxValue;
+    }
+
+    /**
+     * @return The number of characters in the longest canonical numeral
+     */
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    /**
+     * Returns the canonical numeral for a value. The returned string is shared and never rebuilt.
+     *
+     * @param value A value between getMinValue() and getMaxValue()
+     * @return The numeral for the value
+     * @throws IllegalArgumentException Thrown if the value cannot be represented in this system
+     */
+    public String toNumeral(int value) {
+        if (value < minValue || value > maxValue) {
+            throw new IllegalArgumentException("Value " + value + " is out of " + name + " number bounds");
+        }
+        return numerals[value];
+    }
+
+    /**
+     * Parses a number in this system or in Arabic numerals, following the rules of the
+     * ElbonianArabicConverter constructor with this system's symbols and bounds. Unlike
+     * ElbonianArabicConverter.tryParse, the parse is not counted by ConversionMetrics.
+     *
+     * @param number A string that represents a number in this system or an Arabic number
+     * @return The parsed value, or the reason and position of the failure, packed into a long
+     */
+    public long tryParse(CharSequence number) {
+        return tryParse(number, 0, number.length());
+    }
+
+    /**
+     * Parses a range of characters like tryParse, without copying the characters. Positions in a failed
+     * result are indexes into the whole sequence.
+     *
+     * @param number The characters to read
+     * @param start  The index of the first character of the range
+     * @param end    The index after the last character of the range
+     * @return The parsed value, or the reason and position of the failure, packed into a long
+     */
+    public long tryParse(CharSequence number, int start, int end) {
+        // Leading and trailing spaces are allowed
+        while (start < end && number.charAt(start) == ' ') {
+            start++;
+        }
+        while (end > start && number.charAt(end - 1) == ' ') {
+            end--;
+        }
+        if (start == end) {
+            return ParseResult.failure(FailureReason.EMPTY, -1);
+        }
+        long result = ArabicParser.parse(number, start, end, minValue, maxValue);
+        if (result == ArabicParser.NOT_ARABIC) {
+            result = automaton.parse(number, start, end);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the rank of a single character symbol.
+     *
+     * @param c The character to look up
+     * @return The position of the symbol in the order from the smallest to the largest value, or -1 if the
+     * character is not a symbol by itself
+     */
+    int rank(char c) {
+        return automaton.rank(c);
+    }
+
+    /**
+     * Returns the value of a single character symbol.
+     *
+     * @param c The character to look up
+     * @return The value of the symbol, or 0 if the character is not a symbol by itself
+     */
+    int valueOf(char c) {
+        int rank = automaton.rank(c);
+        return rank < 0 ? 0 : symbolValues[rank];
+    }
+
+    /**
+     * @return The automaton that validates the numerals of this system
+     */
+    NumeralAutomaton automaton() {
+        return automaton;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    /**
+     * A definition of a numeral system.
+     */
+    public static final class Builder {
+
+        private final String name;
+        private final List<Symbol> symbols = new ArrayList<>();
+        private final List<String[]> forbidden = new ArrayList<>();
+        private int minValue = 1;
+        private int maxValue = -1;
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Adds a symbol. The symbols may be added in any order.
+         *
+         * @param text       The characters of the symbol, which must be printable ASCII
+         * @param value      The value of the symbol, which no other symbol may have
+         * @param maxRepeats How many times the symbol may appear in a single numeral
+         * @return This builder
+         */
+        public Builder symbol(String text, int value, int maxRepeats) {
+            if (text.isEmpty() || !text.chars().allMatch(c -> c > ' ' && c < 127 && (c < '0' || c > '9'))) {
+                throw new IllegalArgumentException("Symbol " + text + " must be printable ASCII other than digits");
+            }
+            if (text.chars().anyMatch(c -> c == ',' || c == '-' || c == '.')) {
+                throw new IllegalArgumentException("Symbol " + text + " would be read as an Arabic numeral");
+            }
+            if (value < 1 || maxRepeats < 1 || maxRepeats > 63) {
+                throw new IllegalArgumentException("Symbol " + text + " needs a positive value and 1 to 63 repeats");
+            }
+            symbols.add(new Symbol(text, value, maxRepeats));
+            return this;
+        }
+
+        /**
+         * Forbids a set of symbols from all appearing in the same numeral. A numeral that completes the set is
+         * rejected with ILLEGAL_TRIPLE for a set of three symbols and ILLEGAL_COMBINATION otherwise.
+         *
+         * @param symbols The symbols of the set
+         * @return This builder
+         */
+        public Builder forbid(String... symbols) {
+            if (symbols.length < 2) {
+                throw new IllegalArgumentException("A forbidden combination needs at least two symbols");
+            }
+            forbidden.add(symbols.clone());
+            return this;
+        }
+
+        /**
+         * Sets the bounds of the values. The minimum defaults to 1 and the maximum has to be set.
+         *
+         * @param minValue The smallest value that can be represented
+         * @param maxValue The largest value that can be represented, at most 65535
+         * @return This builder
+         */
+        public Builder bounds(int minValue, int maxValue) {
+            this.minValue = minValue;
+            this.maxValue = maxValue;
+            return this;
+        }
+
+        /**
+         * Compiles the definition.
+         *
+         * @return The numeral system
+         * @throws IllegalArgumentException Thrown if the definition is inconsistent, or if some value in the
+         *                                  bounds has no numeral that follows the rules
+         */
+        public NumeralSystem build() {
+            return new NumeralSystem(this);
+        }
+    }
+
+    /**
+     * A symbol of a definition.
+     */
+    private static final class Symbol {
+
+        private final String text;
+        private final int value;
+        private final int maxRepeats;
+
+        Symbol(String text, int value, int maxRepeats) {
+            this.text = text;
+            this.value = value;
+            this.maxRepeats = maxRepeats;
+        }
+    }
+}
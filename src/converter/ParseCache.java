@@ -0,0 +1,184 @@
+package converter;
+
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded cache of parse results keyed on the raw input, padding and commas included. Failures are
+ * cached as their packed reason and position too, so repeated bad input is neither parsed again nor turned
+ * into an exception by tryParse.
+ * <p>
+ * Lookups are lock free reads of a ConcurrentHashMap. When the cache is full a new entry replaces one chosen
+ * by the CLOCK algorithm, an approximation of LRU: every hit marks its entry, and the eviction sweep skips and
+ * unmarks marked entries, so recently used entries survive. Only inserts take a lock. Inputs longer than
+ * MAX_KEY_LENGTH are parsed without being cached, so one huge string cannot pin memory.
+ *
+ * @version 10/16/26
+ */
+public final class ParseCache {
+
+    /**
+     * The longest input that is cached.
+     */
+    public static final int MAX_KEY_LENGTH = 64;
+
+    private final int maximumSize;
+    private final ConcurrentHashMap<String, Entry> entries;
+    // The cached entries in the order the eviction sweep visits them, guarded by itself
+    private final Entry[] clock;
+    private int size;
+    private int hand;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Constructor for a cache.
+     *
+     * @param maximumSize The largest number of inputs to keep
+     */
+    public ParseCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be positive");
+        }
+        this.maximumSize = maximumSize;
+        this.entries = new ConcurrentHashMap<>(maximumSize * 4 / 3 + 1);
+        this.clock = new Entry[maximumSize];
+    }
+
+    /**
+     * Parses a number like ElbonianArabicConverter.tryParse, returning the cached result if the same input
+     * was parsed before.
+     *
+     * @param number A string that represents either a Elbonian or Arabic number.
+     * @return The parsed value, or the reason and position of the failure, packed into a long
+     */
+    public long tryParse(String number) {
+        Entry entry = entries.get(number);
+        if (entry != null) {
+            if (!entry.referenced) {
+                // Only written when it changes, so hot entries are not written by every reader
+                entry.referenced = true;
+            }
+            hits.increment();
+            return entry.result;
+        }
+        misses.increment();
+        long result = ElbonianArabicConverter.tryParse(number);
+        if (number.length() <= MAX_KEY_LENGTH) {
+            insert(number, result);
+        }
+        return result;
+    }
+
+    /**
+     * Parses a number like the ElbonianArabicConverter constructor, using the cached result if the same
+     * input was parsed before.
+     *
+     * @param number A string that represents either a Elbonian or Arabic number.
+     * @return The value of the number
+     * @throws MalformedNumberException  Thrown if the number is not a valid Elbonian or Arabic numeral
+     * @throws ValueOutOfBoundsException Thrown if the number is an Arabic numeral that cannot be represented
+     *                                   in the Elbonian number system
+     */
+    public int parse(String number) throws MalformedNumberException, ValueOutOfBoundsException {
+        return ParseResult.valueOrThrow(tryParse(number));
+    }
+
+    private void insert(String number, long result) {
+        Entry entry = new Entry(number, result);
+        synchronized (clock) {
+            if (entries.containsKey(number)) {
+                // Another thread cached it first
+                return;
+            }
+            if (size < maximumSize) {
+                clock[size++] = entry;
+            } else {
+                while (clock[hand].referenced) {
+                    clock[hand].referenced = false;
+                    hand = (hand + 1) % maximumSize;
+                }
+                entries.remove(clock[hand].number);
+                evictions.increment();
+                clock[hand] = entry;
+                hand = (hand + 1) % maximumSize;
+            }
+            entries.put(number, entry);
+        }
+    }
+
+    /**
+     * Removes every cached input. The statistics are kept.
+     */
+    public void clear() {
+        synchronized (clock) {
+            entries.clear();
+            Arrays.fill(clock, null);
+            size = 0;
+            hand = 0;
+        }
+    }
+
+    /**
+     * @return The largest number of inputs the cache keeps
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * @return The number of inputs currently cached
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return The number of lookups answered from the cache
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return The number of lookups that had to parse the input
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return The number of entries removed to make room for new ones
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    @Override
+    public String toString() {
+        return size() + " of " + maximumSize + " inputs cached, " + getHits() + " hits, " + getMisses()
+                + " misses, " + getEvictions() + " evictions";
+    }
+
+    /**
+     * A cached input and its result.
+     */
+    private static final class Entry {
+
+        private final String number;
+        private final long result;
+        // Set by every hit and cleared by the eviction sweep; a lost update only changes which entry is evicted
+        private volatile boolean referenced;
+
+        Entry(String number, long result) {
+            this.number = number;
+            this.result = result;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package converter;
+
+import converter.exceptions.FailureReason;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+
+/**
+ * Helpers for the primitive results returned by ElbonianArabicConverter.tryParse. A result packs either
+ * the parsed value and its numeral form, or a failure reason and the offending character position, into
+ * a single long so that parsing never has to allocate or throw.
+ *
+ * @version 10/16/26
+ */
+public final class ParseResult {
+
+    // Set on every failed result, so failures are negative and successes are not
+    private static final long FAILURE = Long.MIN_VALUE;
+    // Set on successful results that were parsed from an Elbonian numeral
+    private static final long ELBONIAN = 1L << 16;
+    private static final long VALUE_MASK = 0xFFFFL;
+    private static final long POSITION_MASK = 0xFFFFFFFFL;
+    private static final int REASON_SHIFT = 32;
+    private static final FailureReason[] REASONS = FailureReason.values();
+
+    private ParseResult() {
+    }
+
+    static long success(int value, boolean elbonian) {
+        return elbonian ? value | ELBONIAN : value;
+    }
+
+    static long failure(FailureReason reason, int position) {
+        return FAILURE | ((long) reason.ordinal() << REASON_SHIFT) | (position & POSITION_MASK);
+    }
+
+    /**
+     * Checks whether a result holds a parsed value.
+     *
+     * @param result A result returned by tryParse
+     * @return True if the input was a valid Arabic or Elbonian numeral
+     */
+    public static boolean isSuccess(long result) {
+        return result >= 0;
+    }
+
+    /**
+     * Checks whether a successful result was parsed from an Elbonian numeral.
+     *
+     * @param result A result returned by tryParse
+     * @return True if the input was a valid Elbonian numeral, false if it was Arabic or invalid
+     */
+    public static boolean isElbonian(long result) {
+        return result >= 0 && (result & ELBONIAN) != 0;
+    }
+
+    /**
+     * Returns the value held by a successful result.
+     *
+     * @param result A result returned by tryParse
+     * @return The parsed value, or -1 if the input was invalid
+     */
+    public static int value(long result) {
+        return result >= 0 ? (int) (result & VALUE_MASK) : -1;
+    }
+
+    /**
+     * Returns the reason held by a failed result.
+     *
+     * @param result A result returned by tryParse
+     * @return The reason the input was rejected, or null if it was valid
+     */
+    public static FailureReason reason(long result) {
+        return result >= 0 ? null : REASONS[(int) ((result & ~FAILURE) >>> REASON_SHIFT)];
+    }
+
+    /**
+     * Returns the index of the offending character held by a failed result.
+     *
+     * @param result A result returned by tryParse
+     * @return The index of the offending character in the input, or -1 if the input was valid or there is
+     * no single offending character
+     */
+    public static int position(long result) {
+        return result >= 0 ? -1 : (int) (result & POSITION_MASK);
+    }
+
+    /**
+     * Returns the value held by a result or throws the exception the converter constructor would throw
+     * for the same input. The exceptions carry the failure reason and do not capture a stack trace.
+     *
+     * @param result A result returned by tryParse
+     * @return The parsed value
+     * @throws MalformedNumberException  Thrown if the input was not a valid Arabic or Elbonian numeral
+     * @throws ValueOutOfBoundsException Thrown if the input was an Arabic number outside the Elbonian bounds
+     */
+    public static int valueOrThrow(long result) throws MalformedNumberException, ValueOutOfBoundsException {
+        if (result >= 0) {
+            return (int) (result & VALUE_MASK);
+        }
+        FailureReason reason = reason(result);
+        if (reason == FailureReason.OUT_OF_RANGE) {
+            throw new ValueOutOfBoundsException(position(result));
+        }
+        throw new MalformedNumberException(reason, position(result));
+    }
+}
@@ -0,0 +1,64 @@
+package converter;
+
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+
+/**
+ * The conversions of ElbonianArabicConverter as pure functions on a single shared instance. It has no state
+ * and only reads the immutable tables of the parsers, so any number of threads can call it at once without
+ * locking, and the same argument always gives the same answer.
+ *
+ * @version 10/16/26
+ */
+public final class StatelessConverter {
+
+    /**
+     * The only instance.
+     */
+    public static final StatelessConverter INSTANCE = new StatelessConverter();
+
+    private StatelessConverter() {
+    }
+
+    /**
+     * Converts a number in either form to its value, following the rules of the ElbonianArabicConverter
+     * constructor.
+     *
+     * @param number A string that represents either a Elbonian or Arabic number.
+     * @return The Arabic value of the number
+     * @throws MalformedNumberException  Thrown if the number is not a valid Elbonian or Arabic numeral
+     * @throws ValueOutOfBoundsException Thrown if the number is an Arabic numeral that cannot be represented
+     *                                   in the Elbonian number system
+     */
+    public int toArabic(String number) throws MalformedNumberException, ValueOutOfBoundsException {
+        return ParseResult.valueOrThrow(ElbonianArabicConverter.tryParse(number));
+    }
+
+    /**
+     * Converts a number in either form to its Elbonian numeral, following the rules of the
+     * ElbonianArabicConverter constructor.
+     *
+     * @param number A string that represents either a Elbonian or Arabic number.
+     * @return The Elbonian numeral of the number
+     * @throws MalformedNumberException  Thrown if the number is not a valid Elbonian or Arabic numeral
+     * @throws ValueOutOfBoundsException Thrown if the number is an Arabic numeral that cannot be represented
+     *                                   in the Elbonian number system
+     */
+    public String toElbonian(String number) throws MalformedNumberException, ValueOutOfBoundsException {
+        return ElbonianTables.toElbonian(toArabic(number));
+    }
+
+    /**
+     * Converts a value to its Elbonian numeral.
+     *
+     * @param value The value to convert
+     * @return The Elbonian numeral of the value
+     * @throws ValueOutOfBoundsException Thrown if the value cannot be represented in the Elbonian number system
+     */
+    public String toElbonian(int value) throws ValueOutOfBoundsException {
+        if (value < ElbonianTables.MIN_VALUE || value > ElbonianTables.MAX_VALUE) {
+            throw new ValueOutOfBoundsException(-1);
+        }
+        return ElbonianTables.toElbonian(value);
+    }
+}
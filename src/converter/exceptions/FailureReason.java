@@ -0,0 +1,38 @@
+package converter.exceptions;
+
+/**
+ * The reasons a string can fail to be parsed as an Arabic or Elbonian numeral, or as a numeral of another
+ * NumeralSystem.
+ *
+ * @version 10/16/26
+ */
+public enum FailureReason {
+    EMPTY("String was empty or had no content"),
+    WHITESPACE("Numeral contained whitespace"),
+    ILLEGAL_CHARACTER("Number contained a character that is not a digit or a symbol of the numeral system"),
+    BAD_ORDER("Numeral symbols were not in descending order"),
+    TOO_MANY_REPEATS("Numeral symbol was repeated too many times"),
+    ILLEGAL_TRIPLE("Numeral combined three symbols that may not appear together, like D, E and C in Elbonian"),
+    BAD_COMMAS("Arabic numeral commas are not placed in thousandths"),
+    LEADING_ZERO("Arabic numeral had leading zeroes"),
+    DECIMAL("Arabic numeral was not a whole number"),
+    OUT_OF_RANGE("Number was out of the bounds of the numeral system"),
+    WRONG_FORM("Number was not in the numeral form being converted from"),
+    TOO_LONG("Line was too long to hold a number"),
+    ILLEGAL_COMBINATION("Number combined symbols that may not appear together");
+
+    private final String message;
+
+    FailureReason(String message) {
+        this.message = message;
+    }
+
+    /**
+     * Returns a description of the failure that is suitable as an exception message.
+     *
+     * @return A description of the failure
+     */
+    public String getMessage() {
+        return message;
+    }
+}
@@ -7,6 +7,9 @@ package converter.exceptions;
  */
 public class MalformedNumberException extends Exception {
 
+    private final FailureReason reason;
+    private final int position;
+
     /**
      * Constructor with a description message for the malformed number Exception.
      *
@@ -14,6 +17,39 @@ public class MalformedNumberException extends Exception {
      */
     public MalformedNumberException(String message) {
         super(message);
+        this.reason = null;
+        this.position = -1;
+    }
+
+    /**
+     * Constructor for a malformed number Exception that carries the reason of the failure. No stack trace
+     * is captured, which makes the exception cheap enough to throw for every rejected input.
+     *
+     * @param reason   The reason the number was malformed
+     * @param position The index of the offending character in the input, or -1 if there is none
+     */
+    public MalformedNumberException(FailureReason reason, int position) {
+        super(reason.getMessage(), null, false, false);
+        this.reason = reason;
+        this.position = position;
+    }
+
+    /**
+     * Returns the reason the number was malformed.
+     *
+     * @return The reason of the failure, or null if the exception was created from a message only
+     */
+    public FailureReason getReason() {
+        return reason;
+    }
+
+    /**
+     * Returns the index of the offending character in the input.
+     *
+     * @return The index of the offending character, or -1 if it is unknown
+     */
+    public int getPosition() {
+        return position;
     }
 
 }
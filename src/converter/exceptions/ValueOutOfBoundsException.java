@@ -8,6 +8,8 @@ package converter.exceptions;
  */
 public class ValueOutOfBoundsException extends Exception {
 
+    private final int position;
+
     /**
      * Constructor with a descriptive message for the value out of bounds exception.
      *
@@ -15,6 +17,36 @@ public class ValueOutOfBoundsException extends Exception {
      */
     public ValueOutOfBoundsException(String message) {
         super(message);
+        this.position = -1;
+    }
+
+    /**
+     * Constructor for a value out of bounds exception that records where the number started. No stack
+     * trace is captured, which makes the exception cheap enough to throw for every rejected input.
+     *
+     * @param position The index of the first character of the number in the input, or -1 if it is unknown
+     */
+    public ValueOutOfBoundsException(int position) {
+        super(FailureReason.OUT_OF_RANGE.getMessage(), null, false, false);
+        this.position = position;
+    }
+
+    /**
+     * Returns the reason the value was rejected, which is always OUT_OF_RANGE.
+     *
+     * @return FailureReason.OUT_OF_RANGE
+     */
+    public FailureReason getReason() {
+        return FailureReason.OUT_OF_RANGE;
+    }
+
+    /**
+     * Returns the index of the first character of the number in the input.
+     *
+     * @return The index of the number, or -1 if it is unknown
+     */
+    public int getPosition() {
+        return position;
     }
 
 }
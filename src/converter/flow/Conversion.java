@@ -0,0 +1,93 @@
+package converter.flow;
+
+import converter.Direction;
+import converter.ElbonianTables;
+import converter.exceptions.FailureReason;
+
+/**
+ * The outcome of converting one element of a stream: the converted value, or the reason and position of the
+ * failure. The output numeral is looked up or formatted when it is asked for.
+ *
+ * @version 10/16/26
+ */
+public final class Conversion {
+
+    private final String input;
+    private final Direction direction;
+    private final int value;
+    private final FailureReason reason;
+    private final int position;
+
+    private Conversion(String input, Direction direction, int value, FailureReason reason, int position) {
+        this.input = input;
+        this.direction = direction;
+        this.value = value;
+        this.reason = reason;
+        this.position = position;
+    }
+
+    static Conversion success(String input, Direction direction, int value) {
+        return new Conversion(input, direction, value, null, -1);
+    }
+
+    static Conversion failure(String input, Direction direction, FailureReason reason, int position) {
+        return new Conversion(input, direction, -1, reason, position);
+    }
+
+    /**
+     * @return The element that was converted
+     */
+    public String getInput() {
+        return input;
+    }
+
+    /**
+     * @return The direction the element was converted in
+     */
+    public Direction getDirection() {
+        return direction;
+    }
+
+    /**
+     * @return True if the element was converted
+     */
+    public boolean isSuccess() {
+        return reason == null;
+    }
+
+    /**
+     * @return The value of the element, or -1 if it could not be converted
+     */
+    public int getValue() {
+        return value;
+    }
+
+    /**
+     * @return The numeral in the form of the direction, or null if the element could not be converted
+     */
+    public String getOutput() {
+        if (reason != null) {
+            return null;
+        }
+        return direction == Direction.TO_ARABIC ? Integer.toString(value) : ElbonianTables.toElbonian(value);
+    }
+
+    /**
+     * @return The reason the element could not be converted, or null if it was converted
+     */
+    public FailureReason getReason() {
+        return reason;
+    }
+
+    /**
+     * @return The index of the character that failed the conversion, or -1 if there is none
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    @Override
+    public String toString() {
+        return reason == null ? input + " -> " + getOutput() : input + " -> " + reason + " at " + position;
+    }
+}
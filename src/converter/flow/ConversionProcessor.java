@@ -0,0 +1,313 @@
+package converter.flow;
+
+import converter.Direction;
+import converter.ElbonianArabicConverter;
+import converter.ParseResult;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A Flow.Processor that converts a stream of numerals and honors the demand of its subscriber. It buffers up
+ * to batchSize elements: it requests that many from upstream at first, and requests more whenever half of
+ * them have been emitted, so upstream keeps producing while the subscriber consumes. Every element is
+ * emitted as soon as it has arrived and the subscriber has demand for it. The elements that are ready are
+ * converted and emitted in one run, so the demand accounting is paid once per run and the upstream requests
+ * once per half batch, rather than once per element. An element that cannot be converted is emitted as a failed Conversion
+ * carrying its FailureReason, and the stream goes on.
+ * <p>
+ * Signals are emitted by whichever thread makes progress possible, the upstream thread calling onNext or
+ * the downstream thread calling request, and a work in progress counter makes sure only one of them emits
+ * at a time. The processor accepts a single subscriber.
+ *
+ * @version 10/16/26
+ */
+public final class ConversionProcessor implements Flow.Processor<String, Conversion> {
+
+    /**
+     * The batch size used when none is given.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private static final VarHandle PRODUCER_INDEX;
+
+    static {
+        try {
+            PRODUCER_INDEX = MethodHandles.lookup().findVarHandle(ConversionProcessor.class, "producerIndex",
+                    long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Direction direction;
+    private final boolean strict;
+    private final int batchSize;
+    // The number of emitted elements after which more are requested from upstream
+    private final int replenish;
+
+    // Elements received but not converted yet, in a ring. Only onNext writes elements and only drain reads them.
+    private final String[] buffer;
+    private volatile long producerIndex;
+    // Only drain and the methods it calls use the consumer index, one thread at a time
+    private long consumerIndex;
+    // The number of elements requested from upstream so far
+    private volatile long upstreamLimit;
+    // The number of elements emitted since the last request to upstream, only used by drain
+    private long unrequested;
+
+    // The number of elements the subscriber has requested in total, and the number emitted, which only drain
+    // uses, so emitting does not update an atomic counter
+    private final AtomicLong requested = new AtomicLong();
+    private long emitted;
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicInteger subscribed = new AtomicInteger();
+    private volatile Flow.Subscription upstream;
+    private volatile Flow.Subscriber<? super Conversion> downstream;
+    private volatile boolean done;
+    private volatile Throwable error;
+    private volatile boolean cancelled;
+    // The error for a request that broke the rules, delivered by drain so it does not overlap onNext
+    private volatile Throwable invalidRequest;
+
+    /**
+     * Constructor for a processor.
+     *
+     * @param direction The numeral form to convert to
+     * @param strict    True if every element must be in the form the direction converts from, false if
+     *                  elements in either form are accepted
+     * @param batchSize The most elements that are buffered, requested from upstream and converted at once
+     */
+    public ConversionProcessor(Direction direction, boolean strict, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.direction = direction;
+        this.strict = strict;
+        this.batchSize = batchSize;
+        this.replenish = batchSize - batchSize / 2;
+        this.buffer = new String[batchSize];
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (upstream != null) {
+            subscription.cancel();
+            return;
+        }
+        upstream = subscription;
+        if (cancelled) {
+            subscription.cancel();
+        } else {
+            upstreamLimit = batchSize;
+            subscription.request(batchSize);
+        }
+    }
+
+    @Override
+    public void onNext(String item) {
+        if (item == null) {
+            throw new NullPointerException("Flow elements must not be null");
+        }
+        if (done) {
+            return;
+        }
+        long index = producerIndex;
+        if (index == upstreamLimit) {
+            // Upstream sent more than it was asked for
+            upstream.cancel();
+            onError(new IllegalStateException("Upstream sent more elements than were requested"));
+            return;
+        }
+        buffer[(int) (index % batchSize)] = item;
+        // A release store is enough, since drain starts with an atomic update that orders it
+        PRODUCER_INDEX.setRelease(this, index + 1);
+        drain();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        if (throwable == null) {
+            throw new NullPointerException("Flow errors must not be null");
+        }
+        if (done) {
+            return;
+        }
+        error = throwable;
+        done = true;
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        done = true;
+        drain();
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super Conversion> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("Subscriber must not be null");
+        }
+        if (!subscribed.compareAndSet(0, 1)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("ConversionProcessor accepts a single subscriber"));
+            return;
+        }
+        subscriber.onSubscribe(new Subscription());
+        downstream = subscriber;
+        drain();
+    }
+
+    // Emits as many converted elements and terminal signals as the demand allows, on one thread at a time
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            Flow.Subscriber<? super Conversion> subscriber = downstream;
+            if (subscriber != null) {
+                long demand = requested.get();
+                while (true) {
+                    if (cancelled) {
+                        abandon(subscriber);
+                        return;
+                    }
+                    boolean terminated = done;
+                    long consumer = consumerIndex;
+                    int available = (int) (producerIndex - consumer);
+                    if (available == 0) {
+                        if (terminated) {
+                            finish(subscriber);
+                            return;
+                        }
+                        break;
+                    }
+                    if (emitted == demand) {
+                        break;
+                    }
+                    int count = (int) Math.min(demand - emitted, available);
+                    int slot = (int) (consumer % batchSize);
+                    for (int i = 0; i < count; i++) {
+                        String item = buffer[slot];
+                        buffer[slot] = null;
+                        slot = slot + 1 == batchSize ? 0 : slot + 1;
+                        subscriber.onNext(convert(item));
+                        if (cancelled) {
+                            consumerIndex = consumer + i + 1;
+                            abandon(subscriber);
+                            return;
+                        }
+                    }
+                    consumerIndex = consumer + count;
+                    emitted += count;
+                    unrequested += count;
+                    if (unrequested >= replenish && !done) {
+                        requestMore();
+                    }
+                }
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private Conversion convert(String item) {
+        long result = ElbonianArabicConverter.tryParse(item);
+        if (strict) {
+            result = direction.requireSourceForm(result);
+        }
+        return ParseResult.isSuccess(result)
+                ? Conversion.success(item, direction, ParseResult.value(result))
+                : Conversion.failure(item, direction, ParseResult.reason(result), ParseResult.position(result));
+    }
+
+    // Asks upstream to refill the slots of the elements emitted since the last request
+    private void requestMore() {
+        long n = unrequested;
+        unrequested = 0;
+        upstreamLimit += n;
+        upstream.request(n);
+    }
+
+    private void finish(Flow.Subscriber<? super Conversion> subscriber) {
+        cancelled = true;
+        downstream = null;
+        Throwable failure = error;
+        if (failure != null) {
+            subscriber.onError(failure);
+        } else {
+            subscriber.onComplete();
+        }
+    }
+
+    // Drops the buffered elements and the subscriber after a cancel, and reports an invalid request if that
+    // caused it
+    private void abandon(Flow.Subscriber<? super Conversion> subscriber) {
+        clear();
+        downstream = null;
+        Throwable failure = invalidRequest;
+        if (failure != null) {
+            invalidRequest = null;
+            subscriber.onError(failure);
+        }
+    }
+
+    private void clear() {
+        for (long i = consumerIndex; i < producerIndex; i++) {
+            buffer[(int) (i % batchSize)] = null;
+        }
+        consumerIndex = producerIndex;
+    }
+
+    /**
+     * The subscription given to the downstream subscriber.
+     */
+    private final class Subscription implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                if (!cancelled) {
+                    invalidRequest = new IllegalArgumentException("Rule 3.9 of Reactive Streams: requested " + n
+                            + " elements, which is not positive");
+                    cancel();
+                }
+                return;
+            }
+            long current;
+            long next;
+            do {
+                current = requested.get();
+                if (current == Long.MAX_VALUE) {
+                    return;
+                }
+                next = current + n < 0 ? Long.MAX_VALUE : current + n;
+            } while (!requested.compareAndSet(current, next));
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                Flow.Subscription subscription = upstream;
+                if (subscription != null) {
+                    subscription.cancel();
+                }
+                drain();
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package converter.io;
+
+/**
+ * Counts of the lines a file conversion read, converted and rejected.
+ *
+ * @version 10/16/26
+ */
+public final class ConversionStats {
+
+    private long lines;
+    private long converted;
+    private long rejected;
+
+    void converted() {
+        lines++;
+        converted++;
+    }
+
+    void rejected() {
+        lines++;
+        rejected++;
+    }
+
+    /**
+     * Adds the counts of another conversion to these counts.
+     *
+     * @param other The counts to add
+     * @return These counts
+     */
+    public ConversionStats merge(ConversionStats other) {
+        lines += other.lines;
+        converted += other.converted;
+        rejected += other.rejected;
+        return this;
+    }
+
+    /**
+     * Returns the number of lines that were read.
+     *
+     * @return The number of lines
+     */
+    public long getLines() {
+        return lines;
+    }
+
+    /**
+     * Returns the number of lines that were converted.
+     *
+     * @return The number of converted lines
+     */
+    public long getConverted() {
+        return converted;
+    }
+
+    /**
+     * Returns the number of lines that were written to the rejects.
+     *
+     * @return The number of rejected lines
+     */
+    public long getRejected() {
+        return rejected;
+    }
+
+    @Override
+    public String toString() {
+        return lines + " lines, " + converted + " converted, " + rejected + " rejected";
+    }
+}
@@ -0,0 +1,235 @@
+package converter.io;
+
+import converter.Direction;
+import converter.ElbonianTables;
+import converter.NumeralCodec;
+import converter.ParseResult;
+import converter.exceptions.FailureReason;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Converts newline delimited files of numerals, one numeral per line, following the rules of the
+ * ElbonianArabicConverter constructor. The input is read one window at a time into a single reused buffer and
+ * the output and rejects are written through fixed size buffers, so memory use does not grow with the size of
+ * the input. The input is not memory mapped, since every mapping lives until it is garbage collected and a
+ * small window over a large file would pile up more mappings than the operating system allows.
+ * Lines that cannot be converted are written to a separate rejects file as the line number, the failure
+ * reason and the column of the offending character (0 if there is none), separated by tabs.
+ *
+ * @version 10/16/26
+ */
+public final class FileConverter {
+
+    /**
+     * The buffer size used when none is given, which is also the size of the input window.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 16 << 20;
+
+    /**
+     * The smallest buffer size, which leaves room for the longest output or rejects line.
+     */
+    public static final int MIN_BUFFER_SIZE = 64;
+
+    private final Direction direction;
+    private final boolean strict;
+    private final int bufferSize;
+
+    /**
+     * Constructor for a file converter.
+     *
+     * @param direction  The numeral form to write
+     * @param strict     True if every line must be in the form the direction converts from, false if lines
+     *                   in either form are accepted
+     * @param bufferSize The size of the input window and of the output buffers, which is also the longest
+     *                   line that can be read
+     */
+    public FileConverter(Direction direction, boolean strict, int bufferSize) {
+        if (bufferSize < MIN_BUFFER_SIZE) {
+            throw new IllegalArgumentException("Buffer size must be at least " + MIN_BUFFER_SIZE);
+        }
+        this.direction = direction;
+        this.strict = strict;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Converts every line of a file.
+     *
+     * @param input   The file to read
+     * @param output  The file to write the converted lines to, replaced if it exists
+     * @param rejects The file to write the rejected lines to, replaced if it exists
+     * @return The counts of converted and rejected lines
+     * @throws IOException Thrown if a file cannot be read or written
+     */
+    public ConversionStats convert(Path input, Path output, Path rejects) throws IOException {
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = open(output);
+             FileChannel rejected = open(rejects)) {
+            return convert(in, 0, in.size(), 1, out, rejected, bufferSize);
+        }
+    }
+
+    private static FileChannel open(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Converts the lines in a region of a file.
+     *
+     * @param in        The file to read
+     * @param from      The position of the first line of the region
+     * @param to        The position after the region, which is the start of a line or the end of the file
+     * @param firstLine The line number of the first line of the region
+     * @param output    Receives the converted lines
+     * @param rejects   Receives the rejected lines
+     * @param sinkSize  The size of the buffers in front of output and rejects
+     * @return The counts of converted and rejected lines
+     * @throws IOException Thrown if the file cannot be read or a channel cannot be written
+     */
+    ConversionStats convert(FileChannel in, long from, long to, long firstLine, WritableByteChannel output,
+                            WritableByteChannel rejects, int sinkSize) throws IOException {
+        ConversionStats stats = new ConversionStats();
+        Sink out = new Sink(output, sinkSize);
+        Sink rejected = new Sink(rejects, sinkSize);
+        // A region smaller than the buffer is read in one window, which needs no more room than the region
+        ByteBuffer window = ByteBuffer.allocateDirect((int) Math.min(bufferSize, Math.max(to - from, 1)));
+        long lineNumber = firstLine;
+        long windowStart = from;
+        // True while the rest of a line that did not fit in a window is being skipped
+        boolean skipping = false;
+        while (windowStart < to) {
+            long windowEnd = Math.min(to, windowStart + bufferSize);
+            read(in, windowStart, (int) (windowEnd - windowStart), window);
+            int limit = window.limit();
+            int lineStart = 0;
+            for (int i = 0; i < limit; i++) {
+                if (window.get(i) == '\n') {
+                    if (skipping) {
+                        skipping = false;
+                    } else {
+                        convertLine(window, lineStart, i, lineNumber, out, rejected, stats);
+                    }
+                    lineNumber++;
+                    lineStart = i + 1;
+                }
+            }
+            if (windowEnd == to) {
+                if (lineStart < limit && !skipping) {
+                    convertLine(window, lineStart, limit, lineNumber, out, rejected, stats);
+                }
+                windowStart = to;
+            } else if (lineStart == 0) {
+                // The whole window is one line, so it cannot be converted
+                if (!skipping) {
+                    reject(lineNumber, FailureReason.TOO_LONG, 0, rejected, stats);
+                    skipping = true;
+                }
+                windowStart = windowEnd;
+            } else {
+                // Read the next window from the start of the line that was cut off
+                windowStart += lineStart;
+            }
+        }
+        out.flush();
+        rejected.flush();
+        return stats;
+    }
+
+    // Fills the window with the given number of bytes of the file, starting at the given position
+    private static void read(FileChannel in, long position, int length, ByteBuffer window) throws IOException {
+        window.clear().limit(length);
+        while (window.hasRemaining()) {
+            if (in.read(window, position + window.position()) < 0) {
+                throw new EOFException("File ended before position " + (position + length));
+            }
+        }
+        window.flip();
+    }
+
+    private void convertLine(ByteBuffer window, int start, int end, long lineNumber, Sink out, Sink rejected,
+                             ConversionStats stats) throws IOException {
+        if (end > start && window.get(end - 1) == '\r') {
+            end--;
+        }
+        long result = NumeralCodec.decode(window, start, end - start);
+        if (strict) {
+            result = direction.requireSourceForm(result);
+        }
+        if (ParseResult.isSuccess(result)) {
+            ByteBuffer buffer = out.reserve(ElbonianTables.MAX_LENGTH + 1);
+            direction.encode(ParseResult.value(result), buffer);
+            buffer.put((byte) '\n');
+            stats.converted();
+        } else {
+            int position = ParseResult.position(result);
+            reject(lineNumber, ParseResult.reason(result), position < 0 ? 0 : position - start + 1, rejected, stats);
+        }
+    }
+
+    private static void reject(long lineNumber, FailureReason reason, int column, Sink rejected,
+                               ConversionStats stats) throws IOException {
+        ByteBuffer buffer = rejected.reserve(MIN_BUFFER_SIZE);
+        putDecimal(buffer, lineNumber);
+        buffer.put((byte) '\t');
+        String name = reason.name();
+        for (int i = 0; i < name.length(); i++) {
+            buffer.put((byte) name.charAt(i));
+        }
+        buffer.put((byte) '\t');
+        putDecimal(buffer, column);
+        buffer.put((byte) '\n');
+        stats.rejected();
+    }
+
+    private static void putDecimal(ByteBuffer buffer, long value) {
+        long divisor = 1;
+        while (divisor <= value / 10) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            buffer.put((byte) ('0' + value / divisor % 10));
+        }
+    }
+
+    /**
+     * A fixed size buffer in front of a channel. A file channel gets a direct buffer, which it writes without
+     * first copying it into a temporary direct buffer as it would a heap buffer. Any other channel, like the
+     * in memory chunk outputs of ParallelFileConverter, copies into a byte array either way and gets a heap
+     * buffer, so direct memory stays at the input window and two buffers per sequential conversion.
+     */
+    private static final class Sink {
+
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer;
+
+        Sink(WritableByteChannel channel, int size) {
+            this.channel = channel;
+            this.buffer = channel instanceof FileChannel ? ByteBuffer.allocateDirect(size)
+                    : ByteBuffer.allocate(size);
+        }
+
+        // Returns the buffer once it has room for at least the given number of bytes
+        ByteBuffer reserve(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+            return buffer;
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+}
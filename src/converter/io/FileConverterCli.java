@@ -0,0 +1,99 @@
+package converter.io;
+
+import converter.Direction;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Command line entry point for FileConverter.
+ *
+ * <pre>
+ * java converter.io.FileConverterCli --to-arabic|--to-elbonian [--strict] [--buffer-size BYTES]
+ *     [--threads COUNT] INPUT OUTPUT [REJECTS]
+ * </pre>
+ * <p>
+ * The rejects are written to OUTPUT.rejects when no REJECTS file is given. With more than one thread the file
+ * is converted by ParallelFileConverter, which produces the same output. The exit status is 0 when every line
+ * was converted, 1 when some lines were rejected and 2 when the arguments are wrong or a file fails.
+ *
+ * @version 10/16/26
+ */
+public final class FileConverterCli {
+
+    private static final String USAGE = "Usage: FileConverterCli --to-arabic|--to-elbonian [--strict] "
+            + "[--buffer-size BYTES] [--threads COUNT] INPUT OUTPUT [REJECTS]";
+
+    private FileConverterCli() {
+    }
+
+    /**
+     * Converts a file as described by the command line arguments and prints a summary to standard error.
+     *
+     * @param args The command line arguments
+     */
+    public static void main(String[] args) {
+        System.exit(run(args));
+    }
+
+    static int run(String[] args) {
+        Direction direction = null;
+        boolean strict = false;
+        int bufferSize = FileConverter.DEFAULT_BUFFER_SIZE;
+        int threads = 1;
+        Path[] paths = new Path[3];
+        int pathCount = 0;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                if (arg.equals("--to-arabic")) {
+                    direction = Direction.TO_ARABIC;
+                } else if (arg.equals("--to-elbonian")) {
+                    direction = Direction.TO_ELBONIAN;
+                } else if (arg.equals("--strict")) {
+                    strict = true;
+                } else if (arg.equals("--buffer-size") && i + 1 < args.length) {
+                    bufferSize = Integer.parseInt(args[++i]);
+                } else if (arg.equals("--threads") && i + 1 < args.length) {
+                    threads = Integer.parseInt(args[++i]);
+                } else if (!arg.startsWith("--") && pathCount < paths.length) {
+                    paths[pathCount++] = Paths.get(arg);
+                } else {
+                    return usage("Unexpected argument " + arg);
+                }
+            }
+            if (direction == null || pathCount < 2) {
+                return usage("A direction, an input and an output are required");
+            }
+            Path rejects = pathCount == 3 ? paths[2] : Paths.get(paths[1] + ".rejects");
+            FileConverter converter = new FileConverter(direction, strict, bufferSize);
+            ConversionStats stats;
+            if (threads > 1) {
+                ForkJoinPool pool = new ForkJoinPool(threads);
+                try {
+                    stats = new ParallelFileConverter(converter, pool, ParallelFileConverter.DEFAULT_CHUNK_SIZE)
+                            .convert(paths[0], paths[1], rejects);
+                } finally {
+                    pool.shutdown();
+                }
+            } else {
+                stats = converter.convert(paths[0], paths[1], rejects);
+            }
+            System.err.println(stats);
+            return stats.getRejected() == 0 ? 0 : 1;
+        } catch (IllegalArgumentException e) {
+            return usage(e.getMessage());
+        } catch (IOException e) {
+            System.err.println("Conversion failed: " + e);
+            return 2;
+        }
+    }
+
+    private static int usage(String message) {
+        System.err.println(message);
+        System.err.println(USAGE);
+        return 2;
+    }
+}
@@ -0,0 +1,80 @@
+package converter.io;
+
+/**
+ * The layout of packed column files, shared by PackedColumnWriter and PackedColumnReader. All numbers are
+ * big endian.
+ *
+ * <pre>
+ * header, HEADER_SIZE bytes:
+ *     int   MAGIC
+ *     short VERSION
+ *     short 0
+ *     int   values per block, even
+ *     long  number of values
+ *     12 bytes of zeros
+ * blocks, each of them blockBytes(values per block) bytes:
+ *     short smallest value of the block
+ *     short largest value of the block
+ *     the values of the block, two to every three bytes, padded with zeros in the last block
+ * </pre>
+ * <p>
+ * Elbonian values fit in 12 bits, so the first value of a pair is the first byte and the high half of the
+ * second one, and the second value is the low half of the second byte and the third byte.
+ *
+ * @version 10/16/26
+ */
+final class PackedColumnFormat {
+
+    /**
+     * The first four bytes of every packed column file, "ELBP".
+     */
+    static final int MAGIC = 0x454C4250;
+
+    /**
+     * The version of the layout that is written.
+     */
+    static final short VERSION = 1;
+
+    /**
+     * The size of the header before the first block.
+     */
+    static final int HEADER_SIZE = 32;
+
+    /**
+     * The offset of the number of values in the header.
+     */
+    static final int COUNT_OFFSET = 12;
+
+    /**
+     * The size of the smallest and the largest value in front of every block.
+     */
+    static final int BLOCK_HEADER_SIZE = 4;
+
+    /**
+     * The largest number of values in a block.
+     */
+    static final int MAX_BLOCK_SIZE = 1 << 20;
+
+    private PackedColumnFormat() {
+    }
+
+    /**
+     * @param blockSize The number of values in a block
+     * @return The number of bytes of every block
+     */
+    static int blockBytes(int blockSize) {
+        return BLOCK_HEADER_SIZE + blockSize / 2 * 3;
+    }
+
+    /**
+     * Checks a number of values per block.
+     *
+     * @param blockSize The number of values in a block
+     * @throws IllegalArgumentException Thrown if the block size is odd or out of range
+     */
+    static void checkBlockSize(int blockSize) {
+        if (blockSize < 2 || blockSize > MAX_BLOCK_SIZE || blockSize % 2 != 0) {
+            throw new IllegalArgumentException("Block size must be even and between 2 and " + MAX_BLOCK_SIZE);
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package converter.io;
+
+import converter.ElbonianTables;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a packed column file written by PackedColumnWriter. The file is memory mapped and values are
+ * decoded when they are asked for, and range queries skip every block whose smallest and largest value
+ * show that it holds no value in the range. Files of up to 2 GB, over a billion values, can be read.
+ *
+ * @version 10/16/26
+ */
+public final class PackedColumnReader implements Closeable {
+
+    /**
+     * Receives the values found by a range query.
+     */
+    public interface ValueHandler {
+
+        /**
+         * Called for every value in the range, in the order of the file.
+         *
+         * @param index The index of the value in the file
+         * @param value The value
+         */
+        void onValue(long index, int value);
+    }
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int version;
+    private final int blockSize;
+    private final int blockBytes;
+    private final long count;
+    private final int blockCount;
+
+    /**
+     * Opens a packed column file.
+     *
+     * @param file The file to read
+     * @throws IOException Thrown if the file cannot be read, is not a packed column file, or has a version
+     *                     this reader does not know
+     */
+    public PackedColumnReader(Path file) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size < PackedColumnFormat.HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException(file + " is not a packed column file");
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt(0) != PackedColumnFormat.MAGIC) {
+                throw new IOException(file + " is not a packed column file");
+            }
+            version = buffer.getShort(4);
+            if (version != PackedColumnFormat.VERSION) {
+                throw new IOException(file + " has version " + version + ", but only version "
+                        + PackedColumnFormat.VERSION + " can be read");
+            }
+            blockSize = buffer.getInt(8);
+            count = buffer.getLong(PackedColumnFormat.COUNT_OFFSET);
+            try {
+                PackedColumnFormat.checkBlockSize(blockSize);
+            } catch (IllegalArgumentException e) {
+                throw new IOException(file + " has a bad block size", e);
+            }
+            blockBytes = PackedColumnFormat.blockBytes(blockSize);
+            if (count < 0) {
+                throw new IOException(file + " is truncated");
+            }
+            // Divided rather than multiplied, so that a corrupt count cannot overflow the check
+            long blocks = count / blockSize + (count % blockSize == 0 ? 0 : 1);
+            if (blocks > (size - PackedColumnFormat.HEADER_SIZE) / blockBytes) {
+                throw new IOException(file + " is truncated");
+            }
+            blockCount = (int) blocks;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return The version of the layout of the file
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * @return The number of values in the file
+     */
+    public long size() {
+        return count;
+    }
+
+    /**
+     * @return The number of values in a block
+     */
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * @return The number of blocks
+     */
+    public int getBlockCount() {
+        return blockCount;
+    }
+
+    /**
+     * @param block The index of a block
+     * @return The smallest value in the block
+     */
+    public int getBlockMin(int block) {
+        return buffer.getShort(blockStart(block));
+    }
+
+    /**
+     * @param block The index of a block
+     * @return The largest value in the block
+     */
+    public int getBlockMax(int block) {
+        return buffer.getShort(blockStart(block) + 2);
+    }
+
+    /**
+     * Decodes one value.
+     *
+     * @param index The index of the value
+     * @return The value
+     * @throws IndexOutOfBoundsException Thrown if there is no value at the index
+     */
+    public int get(long index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Index " + index + " of " + count + " values");
+        }
+        int block = (int) (index / blockSize);
+        int inBlock = (int) (index - (long) block * blockSize);
+        return decode(buffer, blockStart(block) + PackedColumnFormat.BLOCK_HEADER_SIZE, inBlock);
+    }
+
+    /**
+     * Decodes one value as an Elbonian numeral.
+     *
+     * @param index The index of the value
+     * @return The Elbonian numeral of the value, which is shared and never rebuilt
+     * @throws IndexOutOfBoundsException Thrown if there is no value at the index
+     */
+    public String getElbonian(long index) {
+        return ElbonianTables.toElbonian(get(index));
+    }
+
+    /**
+     * Decodes a run of values.
+     *
+     * @param from   The index of the first value
+     * @param out    Receives the values
+     * @param offset The index in out of the first value
+     * @param length The number of values
+     * @throws IndexOutOfBoundsException Thrown if the values are not all in the file or do not fit in out
+     */
+    public void read(long from, int[] out, int offset, int length) {
+        if (from < 0 || length < 0 || from + length > count || offset < 0 || offset + length > out.length) {
+            throw new IndexOutOfBoundsException(length + " values at " + from + " of " + count + " values");
+        }
+        long index = from;
+        int end = offset + length;
+        while (offset < end) {
+            int block = (int) (index / blockSize);
+            int inBlock = (int) (index - (long) block * blockSize);
+            int run = Math.min(end - offset, blockSize - inBlock);
+            decodeRun(blockStart(block) + PackedColumnFormat.BLOCK_HEADER_SIZE, inBlock, run, out, offset);
+            offset += run;
+            index += run;
+        }
+    }
+
+    /**
+     * Finds every value in a range, without decoding the blocks that hold none.
+     *
+     * @param min     The smallest value to find
+     * @param max     The largest value to find
+     * @param handler Receives the values in the range
+     * @return The number of values found
+     */
+    public long query(int min, int max, ValueHandler handler) {
+        int[] values = new int[blockSize];
+        long found = 0;
+        for (int block = 0; block < blockCount; block++) {
+            if (getBlockMax(block) < min || getBlockMin(block) > max) {
+                continue;
+            }
+            long first = (long) block * blockSize;
+            int length = (int) Math.min(blockSize, count - first);
+            decodeRun(blockStart(block) + PackedColumnFormat.BLOCK_HEADER_SIZE, 0, length, values, 0);
+            for (int i = 0; i < length; i++) {
+                int value = values[i];
+                if (value >= min && value <= max) {
+                    found++;
+                    handler.onValue(first + i, value);
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Closes the file. The mapping stays valid until it is garbage collected, but must not be used.
+     *
+     * @throws IOException Thrown if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private int blockStart(int block) {
+        if (block < 0 || block >= blockCount) {
+            throw new IndexOutOfBoundsException("Block " + block + " of " + blockCount + " blocks");
+        }
+        return PackedColumnFormat.HEADER_SIZE + block * blockBytes;
+    }
+
+    // Decodes the value at an index of the data of a block
+    private static int decode(ByteBuffer buffer, int data, int index) {
+        int pair = data + (index >>> 1) * 3;
+        if ((index & 1) == 0) {
+            return (buffer.get(pair) & 0xFF) << 4 | (buffer.get(pair + 1) & 0xFF) >>> 4;
+        }
+        return (buffer.get(pair + 1) & 0x0F) << 8 | buffer.get(pair + 2) & 0xFF;
+    }
+
+    // Decodes length values from an index of the data of a block, whole pairs at a time where possible
+    private void decodeRun(int data, int index, int length, int[] out, int offset) {
+        int end = index + length;
+        if ((index & 1) == 1 && index < end) {
+            out[offset++] = decode(buffer, data, index++);
+        }
+        int pair = data + (index >>> 1) * 3;
+        for (; index + 1 < end; index += 2) {
+            int b0 = buffer.get(pair) & 0xFF;
+            int b1 = buffer.get(pair + 1) & 0xFF;
+            int b2 = buffer.get(pair + 2) & 0xFF;
+            out[offset++] = b0 << 4 | b1 >>> 4;
+            out[offset++] = (b1 & 0x0F) << 8 | b2;
+            pair += 3;
+        }
+        if (index < end) {
+            out[offset] = decode(buffer, data, index);
+        }
+    }
+}
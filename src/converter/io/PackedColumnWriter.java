@@ -0,0 +1,154 @@
+package converter.io;
+
+import converter.ElbonianArabicConverter;
+import converter.ElbonianTables;
+import converter.ParseResult;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes Elbonian values to a packed column file, 12 bits per value in fixed size blocks that record their
+ * smallest and largest value, as described by PackedColumnFormat. One block is buffered at a time, and the
+ * number of values is written to the header when the writer is closed.
+ *
+ * @version 10/16/26
+ */
+public final class PackedColumnWriter implements Closeable {
+
+    /**
+     * The number of values per block used when none is given.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 4096;
+
+    private final FileChannel channel;
+    private final int blockSize;
+    private final ByteBuffer block;
+    private long count;
+    private int inBlock;
+    private int min;
+    private int max;
+    // The first value of a pair, until the second one is written
+    private int pending;
+
+    /**
+     * Constructor for a writer, which replaces the file if it exists.
+     *
+     * @param file      The file to write
+     * @param blockSize The number of values in a block, which must be even
+     * @throws IOException Thrown if the file cannot be written
+     */
+    public PackedColumnWriter(Path file, int blockSize) throws IOException {
+        PackedColumnFormat.checkBlockSize(blockSize);
+        this.blockSize = blockSize;
+        this.block = ByteBuffer.allocate(PackedColumnFormat.blockBytes(blockSize));
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(PackedColumnFormat.HEADER_SIZE);
+        header.putInt(PackedColumnFormat.MAGIC).putShort(PackedColumnFormat.VERSION).putShort((short) 0)
+                .putInt(blockSize).putLong(0).rewind();
+        write(header);
+        startBlock();
+    }
+
+    /**
+     * Appends a value.
+     *
+     * @param value A value between ElbonianTables.MIN_VALUE and ElbonianTables.MAX_VALUE
+     * @throws ValueOutOfBoundsException Thrown if the value cannot be represented in the Elbonian number system
+     * @throws IOException               Thrown if the file cannot be written
+     */
+    public void write(int value) throws ValueOutOfBoundsException, IOException {
+        if (value < ElbonianTables.MIN_VALUE || value > ElbonianTables.MAX_VALUE) {
+            throw new ValueOutOfBoundsException("Value " + value + " cannot be represented");
+        }
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        if ((inBlock & 1) == 0) {
+            pending = value;
+        } else {
+            block.put((byte) (pending >>> 4))
+                    .put((byte) (pending << 4 | value >>> 8))
+                    .put((byte) value);
+        }
+        count++;
+        if (++inBlock == blockSize) {
+            flushBlock();
+        }
+    }
+
+    /**
+     * Appends the value of a numeral, following the rules of the ElbonianArabicConverter constructor.
+     *
+     * @param numeral An Arabic or Elbonian numeral
+     * @throws MalformedNumberException  Thrown if the numeral is malformed
+     * @throws ValueOutOfBoundsException Thrown if the numeral is an Arabic number outside the Elbonian bounds
+     * @throws IOException               Thrown if the file cannot be written
+     */
+    public void write(CharSequence numeral) throws MalformedNumberException, ValueOutOfBoundsException, IOException {
+        write(ParseResult.valueOrThrow(ElbonianArabicConverter.tryParse(numeral)));
+    }
+
+    /**
+     * @return The number of values written so far
+     */
+    public long size() {
+        return count;
+    }
+
+    /**
+     * Writes the last block and the number of values, and closes the file.
+     *
+     * @throws IOException Thrown if the file cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        if (!channel.isOpen()) {
+            return;
+        }
+        try {
+            if (inBlock > 0) {
+                if ((inBlock & 1) == 1) {
+                    block.put((byte) (pending >>> 4)).put((byte) (pending << 4)).put((byte) 0);
+                }
+                while (block.hasRemaining()) {
+                    block.put((byte) 0);
+                }
+                flushBlock();
+            }
+            ByteBuffer countBuffer = ByteBuffer.allocate(Long.BYTES).putLong(count);
+            countBuffer.flip();
+            channel.position(PackedColumnFormat.COUNT_OFFSET);
+            write(countBuffer);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void startBlock() {
+        block.clear();
+        block.position(PackedColumnFormat.BLOCK_HEADER_SIZE);
+        inBlock = 0;
+        min = Integer.MAX_VALUE;
+        max = Integer.MIN_VALUE;
+    }
+
+    private void flushBlock() throws IOException {
+        block.putShort(0, (short) min).putShort(2, (short) max);
+        block.position(0).limit(block.capacity());
+        write(block);
+        startBlock();
+    }
+
+    private void write(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package converter.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Converts a file like FileConverter, but splits it at line boundaries into chunks that are converted in
+ * parallel on a ForkJoinPool. The lines of every chunk are counted first so that rejects carry the same line
+ * numbers, and the converted chunks are written in input order, so the output and rejects are byte for byte
+ * the same as the sequential conversion. Only a bounded number of converted chunks is held in memory at once.
+ *
+ * @version 10/16/26
+ */
+public final class ParallelFileConverter {
+
+    /**
+     * The chunk size used when none is given.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 4 << 20;
+
+    // The size of the buffers in front of the in memory chunk outputs
+    private static final int SINK_SIZE = 64 << 10;
+
+    private final FileConverter converter;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    /**
+     * Constructor for a parallel file converter.
+     *
+     * @param converter The converter that converts every chunk
+     * @param pool      The pool the chunks are converted on
+     * @param chunkSize The number of bytes in a chunk, before it is extended to the end of its last line
+     */
+    public ParallelFileConverter(FileConverter converter, ForkJoinPool pool, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.converter = converter;
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Converts every line of a file.
+     *
+     * @param input   The file to read
+     * @param output  The file to write the converted lines to, replaced if it exists
+     * @param rejects The file to write the rejected lines to, replaced if it exists
+     * @return The counts of converted and rejected lines of all chunks
+     * @throws IOException Thrown if a file cannot be read or written
+     */
+    public ConversionStats convert(Path input, Path output, Path rejects) throws IOException {
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE,
+                     StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             FileChannel rejected = FileChannel.open(rejects, StandardOpenOption.CREATE,
+                     StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            long[] bounds = split(in);
+            int chunks = bounds.length - 1;
+
+            // Count the lines of every chunk, so every chunk knows the number of its first line
+            List<ForkJoinTask<Long>> counts = new ArrayList<>(chunks);
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                long from = bounds[chunk];
+                long to = bounds[chunk + 1];
+                counts.add(pool.submit(() -> countLines(in, from, to)));
+            }
+            long[] firstLines = new long[chunks];
+            long lines = 1;
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                firstLines[chunk] = lines;
+                lines += join(counts.get(chunk));
+            }
+
+            ConversionStats stats = new ConversionStats();
+            OutputStream outStream = Channels.newOutputStream(out);
+            OutputStream rejectedStream = Channels.newOutputStream(rejected);
+            ArrayDeque<ForkJoinTask<Chunk>> pending = new ArrayDeque<>();
+            int maxPending = 2 * pool.getParallelism();
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                long from = bounds[chunk];
+                long to = bounds[chunk + 1];
+                long firstLine = firstLines[chunk];
+                pending.add(pool.submit(() -> convertChunk(in, from, to, firstLine)));
+                if (pending.size() >= maxPending) {
+                    join(pending.poll()).writeTo(outStream, rejectedStream, stats);
+                }
+            }
+            while (!pending.isEmpty()) {
+                join(pending.poll()).writeTo(outStream, rejectedStream, stats);
+            }
+            return stats;
+        }
+    }
+
+    // Returns the positions where chunks start, followed by the size of the file
+    private long[] split(FileChannel in) throws IOException {
+        long size = in.size();
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        long position = chunkSize;
+        while (position < size) {
+            long lineStart = nextLineStart(in, position, size);
+            if (lineStart < size) {
+                bounds.add(lineStart);
+            }
+            position = Math.max(lineStart, position) + chunkSize;
+        }
+        bounds.add(size);
+        long[] result = new long[bounds.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = bounds.get(i);
+        }
+        return result;
+    }
+
+    // Returns the position after the first newline at or after position, or size if there is none
+    private static long nextLineStart(FileChannel in, long position, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(SINK_SIZE);
+        while (position < size) {
+            buffer.clear();
+            int read = in.read(buffer, position);
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += Math.max(read, 0);
+            if (read <= 0) {
+                return size;
+            }
+        }
+        return size;
+    }
+
+    private static long countLines(FileChannel in, long from, long to) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(SINK_SIZE);
+        long lines = 0;
+        long position = from;
+        while (position < to) {
+            buffer.clear().limit((int) Math.min(buffer.capacity(), to - position));
+            int read = in.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    lines++;
+                }
+            }
+            position += read;
+        }
+        return lines;
+    }
+
+    private Chunk convertChunk(FileChannel in, long from, long to, long firstLine) throws IOException {
+        Chunk chunk = new Chunk();
+        chunk.stats = converter.convert(in, from, to, firstLine, Channels.newChannel(chunk.output),
+                Channels.newChannel(chunk.rejects), SINK_SIZE);
+        return chunk;
+    }
+
+    private static <T> T join(ForkJoinTask<T> task) throws IOException {
+        try {
+            return task.join();
+        } catch (RuntimeException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * The converted lines and rejects of one chunk.
+     */
+    private static final class Chunk {
+
+        private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        private final ByteArrayOutputStream rejects = new ByteArrayOutputStream();
+        private ConversionStats stats;
+
+        void writeTo(OutputStream out, OutputStream rejected, ConversionStats total) throws IOException {
+            output.writeTo(out);
+            rejects.writeTo(rejected);
+            total.merge(stats);
+        }
+    }
+}
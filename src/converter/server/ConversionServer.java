@@ -0,0 +1,334 @@
+package converter.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import converter.ConversionMetrics;
+import converter.Direction;
+import converter.NumeralCodec;
+import converter.ParseResult;
+import converter.exceptions.FailureReason;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An embedded HTTP conversion service built on the JDK HTTP server. Requests are handled on virtual threads
+ * when the JDK has them, and on a cached thread pool otherwise. Responses always carry a content length, so
+ * connections are kept alive between requests.
+ * <p>
+ * The endpoints are:
+ * <ul>
+ * <li>GET /to-arabic?number=N and GET /to-elbonian?number=N convert one number. A converted number is
+ * answered with 200 and the numeral, a number that cannot be converted with 422 and a failure line.</li>
+ * <li>POST /to-arabic and POST /to-elbonian convert a newline delimited body, and answer with 200 and one
+ * line per input line, in the same order: the numeral or a failure line.</li>
+ * <li>GET /health answers 200 while the server runs.</li>
+ * <li>GET /metrics answers with the request count and the ConversionMetrics counts, one per line.</li>
+ * </ul>
+ * A failure line is "error", the FailureReason name and the 1-based column of the offending character (0 if
+ * there is none), separated by tabs. Numbers in either form are accepted unless the query has strict=true,
+ * in which case they must be in the form the endpoint converts from.
+ * <p>
+ * Whoever embeds the server should run the JVM with -Dsun.net.httpserver.nodelay=true, as
+ * ConversionServerCli does. Without TCP_NODELAY every response on a kept alive connection waits for a delayed
+ * acknowledgement, which adds about 40 ms. The server does not set the property itself, because it changes
+ * every JDK HTTP server in the process, and the JDK reads it only when the first one is created.
+ *
+ * @version 10/16/26
+ */
+public final class ConversionServer {
+
+    /**
+     * The largest request body, in bytes, that a batch endpoint accepts.
+     */
+    public static final int MAX_BODY_SIZE = 16 << 20;
+
+    private static final int OK = 200;
+    private static final int BAD_REQUEST = 400;
+    private static final int NOT_FOUND = 404;
+    private static final int METHOD_NOT_ALLOWED = 405;
+    private static final int PAYLOAD_TOO_LARGE = 413;
+    private static final int UNPROCESSABLE = 422;
+
+    // The longest response line: "error", the longest reason name and a column, with the separators
+    private static final int MAX_LINE_LENGTH = 64;
+    private static final byte[] ERROR = "error\t".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[][] REASONS = new byte[FailureReason.values().length][];
+
+    static {
+        for (FailureReason reason : FailureReason.values()) {
+            REASONS[reason.ordinal()] = reason.name().getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final LongAdder requests = new LongAdder();
+
+    private ConversionServer(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    /**
+     * Starts a server.
+     *
+     * @param address The address to listen on, with port 0 for any free port
+     * @param backlog The number of connections to queue, or 0 for the system default
+     * @return The running server
+     * @throws IOException Thrown if the server cannot listen on the address
+     */
+    public static ConversionServer start(InetSocketAddress address, int backlog) throws IOException {
+        HttpServer server = HttpServer.create(address, backlog);
+        ExecutorService executor = newExecutor();
+        ConversionServer conversionServer = new ConversionServer(server, executor);
+        server.createContext("/to-arabic", conversionServer.new ConversionHandler(Direction.TO_ARABIC));
+        server.createContext("/to-elbonian", conversionServer.new ConversionHandler(Direction.TO_ELBONIAN));
+        server.createContext("/health", conversionServer.new HealthHandler());
+        server.createContext("/metrics", conversionServer.new MetricsHandler());
+        server.setExecutor(executor);
+        server.start();
+        return conversionServer;
+    }
+
+    // Returns a virtual thread per task executor if the JDK has one, and a cached thread pool otherwise
+    private static ExecutorService newExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            // Before Java 21 the method is missing, or throws while virtual threads are a disabled preview
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    /**
+     * @return The address the server listens on, with the port it was given
+     */
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    /**
+     * @return The number of requests handled so far
+     */
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    /**
+     * Stops the server, waiting for running exchanges to finish.
+     *
+     * @param delaySeconds The longest time to wait for running exchanges
+     */
+    public void stop(int delaySeconds) {
+        server.stop(delaySeconds);
+        executor.shutdown();
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body, int length) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=US-ASCII");
+        exchange.sendResponseHeaders(status, length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body, 0, length);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.US_ASCII);
+        respond(exchange, status, bytes, bytes.length);
+    }
+
+    // Returns the decoded value of a query parameter, or null if the query does not have it
+    private static String parameter(HttpExchange exchange, String name) throws UnsupportedEncodingException {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return null;
+        }
+        for (String pair : query.split("&")) {
+            int equals = pair.indexOf('=');
+            String key = equals < 0 ? pair : pair.substring(0, equals);
+            if (key.equals(name)) {
+                return equals < 0 ? "" : URLDecoder.decode(pair.substring(equals + 1), "UTF-8");
+            }
+        }
+        return null;
+    }
+
+    // Returns the request body, or null if it is larger than MAX_BODY_SIZE
+    private static byte[] readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] body = in.readNBytes(MAX_BODY_SIZE + 1);
+            return body.length > MAX_BODY_SIZE ? null : body;
+        }
+    }
+
+    /**
+     * Converts numbers in one direction.
+     */
+    private final class ConversionHandler implements HttpHandler {
+
+        private final Direction direction;
+        private final String path;
+
+        ConversionHandler(Direction direction) {
+            this.direction = direction;
+            this.path = direction == Direction.TO_ARABIC ? "/to-arabic" : "/to-elbonian";
+        }
+
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            requests.increment();
+            try {
+                if (!exchange.getRequestURI().getPath().equals(path)) {
+                    respond(exchange, NOT_FOUND, "Not found\n");
+                } else if (exchange.getRequestMethod().equals("GET")) {
+                    convertOne(exchange);
+                } else if (exchange.getRequestMethod().equals("POST")) {
+                    convertBatch(exchange);
+                } else {
+                    respond(exchange, METHOD_NOT_ALLOWED, "Use GET or POST\n");
+                }
+            } finally {
+                exchange.close();
+            }
+        }
+
+        private void convertOne(HttpExchange exchange) throws IOException {
+            String number = parameter(exchange, "number");
+            if (number == null) {
+                respond(exchange, BAD_REQUEST, "The number parameter is required\n");
+                return;
+            }
+            long result = NumeralCodec.decode(number, 0, number.length());
+            if (isStrict(exchange)) {
+                result = direction.requireSourceForm(result);
+            }
+            byte[] out = new byte[MAX_LINE_LENGTH];
+            ByteBuffer buffer = ByteBuffer.wrap(out);
+            writeResult(result, 0, buffer);
+            respond(exchange, ParseResult.isSuccess(result) ? OK : UNPROCESSABLE, out, buffer.position());
+        }
+
+        private void convertBatch(HttpExchange exchange) throws IOException {
+            byte[] body = readBody(exchange);
+            if (body == null) {
+                respond(exchange, PAYLOAD_TOO_LARGE, "The body is larger than " + MAX_BODY_SIZE + " bytes\n");
+                return;
+            }
+            boolean strict = isStrict(exchange);
+            ByteBuffer in = ByteBuffer.wrap(body);
+            ByteBuffer out = ByteBuffer.allocate(2 * body.length + MAX_LINE_LENGTH);
+            int lineStart = 0;
+            for (int i = 0; i <= body.length; i++) {
+                if (i == body.length ? i > lineStart : body[i] == '\n') {
+                    int end = i > lineStart && body[i - 1] == '\r' ? i - 1 : i;
+                    long result = NumeralCodec.decode(in, lineStart, end - lineStart);
+                    if (strict) {
+                        result = direction.requireSourceForm(result);
+                    }
+                    if (out.remaining() < MAX_LINE_LENGTH) {
+                        ByteBuffer larger = ByteBuffer.wrap(Arrays.copyOf(out.array(), 2 * out.capacity()));
+                        larger.position(out.position());
+                        out = larger;
+                    }
+                    writeResult(result, lineStart, out);
+                    lineStart = i + 1;
+                }
+            }
+            respond(exchange, OK, out.array(), out.position());
+        }
+
+        private boolean isStrict(HttpExchange exchange) throws UnsupportedEncodingException {
+            return "true".equals(parameter(exchange, "strict"));
+        }
+
+        // Writes the numeral of a successful result, or a failure line, followed by a newline
+        private void writeResult(long result, int lineStart, ByteBuffer out) {
+            if (ParseResult.isSuccess(result)) {
+                direction.encode(ParseResult.value(result), out);
+            } else {
+                out.put(ERROR);
+                out.put(REASONS[ParseResult.reason(result).ordinal()]);
+                out.put((byte) '\t');
+                int position = ParseResult.position(result);
+                putDecimal(out, position < 0 ? 0 : position - lineStart + 1);
+            }
+            out.put((byte) '\n');
+        }
+    }
+
+    private static void putDecimal(ByteBuffer buffer, int value) {
+        int divisor = 1;
+        while (divisor <= value / 10) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            buffer.put((byte) ('0' + value / divisor % 10));
+        }
+    }
+
+    /**
+     * Answers that the server is running.
+     */
+    private final class HealthHandler implements HttpHandler {
+
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            requests.increment();
+            try {
+                if (!exchange.getRequestURI().getPath().equals("/health")) {
+                    respond(exchange, NOT_FOUND, "Not found\n");
+                } else {
+                    respond(exchange, OK, "UP\n");
+                }
+            } finally {
+                exchange.close();
+            }
+        }
+    }
+
+    /**
+     * Reports the request count and the ConversionMetrics counts as name and value pairs.
+     */
+    private final class MetricsHandler implements HttpHandler {
+
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            requests.increment();
+            try {
+                if (!exchange.getRequestURI().getPath().equals("/metrics")) {
+                    respond(exchange, NOT_FOUND, "Not found\n");
+                    return;
+                }
+                ConversionMetrics.Snapshot snapshot = ConversionMetrics.snapshot();
+                StringBuilder body = new StringBuilder();
+                body.append("requests ").append(requests.sum()).append('\n');
+                body.append("metrics_enabled ").append(ConversionMetrics.isEnabled()).append('\n');
+                for (Direction direction : Direction.values()) {
+                    body.append("conversions_").append(direction.name().toLowerCase()).append(' ')
+                            .append(snapshot.getConversions(direction)).append('\n');
+                }
+                for (FailureReason reason : FailureReason.values()) {
+                    body.append("failures_").append(reason.name().toLowerCase()).append(' ')
+                            .append(snapshot.getFailures(reason)).append('\n');
+                }
+                body.append("latency_p50_nanos ").append(snapshot.getLatencyPercentile(50)).append('\n');
+                body.append("latency_p99_nanos ").append(snapshot.getLatencyPercentile(99)).append('\n');
+                respond(exchange, OK, body.toString());
+            } finally {
+                exchange.close();
+            }
+        }
+    }
+}
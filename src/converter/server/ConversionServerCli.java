@@ -0,0 +1,88 @@
+package converter.server;
+
+import converter.ConversionMetrics;
+
+import javax.management.JMException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+
+/**
+ * Command line entry point for ConversionServer.
+ *
+ * <pre>
+ * java converter.server.ConversionServerCli [--host HOST] [--port PORT] [--backlog COUNT] [--metrics]
+ * </pre>
+ * <p>
+ * The server listens on localhost port 8080 unless told otherwise. With --metrics the ConversionMetrics are
+ * enabled, reported by the /metrics endpoint and registered as an MBean. The server runs until the process
+ * is stopped. The JVM runs with TCP_NODELAY for the JDK HTTP server unless sun.net.httpserver.nodelay is
+ * set. The exit status is 2 when the arguments are wrong or the server cannot start.
+ *
+ * @version 10/16/26
+ */
+public final class ConversionServerCli {
+
+    private static final String USAGE = "Usage: ConversionServerCli [--host HOST] [--port PORT] "
+            + "[--backlog COUNT] [--metrics]";
+
+    private ConversionServerCli() {
+    }
+
+    /**
+     * Starts a server as described by the command line arguments, and exits if it cannot start.
+     *
+     * @param args The command line arguments
+     */
+    public static void main(String[] args) {
+        // The JDK server reads the property when the first server is created, see ConversionServer
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+        int status = run(args);
+        if (status != 0) {
+            System.exit(status);
+        }
+    }
+
+    static int run(String[] args) {
+        String host = "localhost";
+        int port = 8080;
+        int backlog = 0;
+        boolean metrics = false;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                if (arg.equals("--host") && i + 1 < args.length) {
+                    host = args[++i];
+                } else if (arg.equals("--port") && i + 1 < args.length) {
+                    port = Integer.parseInt(args[++i]);
+                } else if (arg.equals("--backlog") && i + 1 < args.length) {
+                    backlog = Integer.parseInt(args[++i]);
+                } else if (arg.equals("--metrics")) {
+                    metrics = true;
+                } else {
+                    return usage("Unexpected argument " + arg);
+                }
+            }
+            if (metrics) {
+                ConversionMetrics.enable();
+                ConversionMetrics.registerMBean();
+            }
+            ConversionServer server = ConversionServer.start(new InetSocketAddress(host, port), backlog);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> server.stop(1)));
+            System.err.println("Listening on " + server.getAddress());
+            return 0;
+        } catch (IllegalArgumentException e) {
+            return usage(e.getMessage());
+        } catch (IOException | JMException e) {
+            System.err.println("Server failed to start: " + e);
+            return 2;
+        }
+    }
+
+    private static int usage(String message) {
+        System.err.println(message);
+        System.err.println(USAGE);
+        return 2;
+    }
+}
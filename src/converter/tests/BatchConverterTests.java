@@ -0,0 +1,76 @@
+package converter.tests;
+
+import converter.BatchConverter;
+import converter.ElbonianArabicConverter;
+import converter.ElbonianTables;
+import converter.exceptions.FailureReason;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Test cases for the BatchConverter bulk conversions.
+ */
+public class BatchConverterTests {
+
+    @Test
+    public void matchesSingleConversions() throws MalformedNumberException, ValueOutOfBoundsException {
+        int count = ElbonianTables.MAX_VALUE;
+        int[] values = new int[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = i + 1;
+        }
+        char[] out = new char[count * ElbonianTables.MAX_LENGTH];
+        int[] offsets = new int[count + 1];
+        assertEquals(0, BatchConverter.toElbonian(values, out, offsets, null));
+
+        String[] numerals = new String[count];
+        for (int i = 0; i < count; i++) {
+            numerals[i] = new String(out, offsets[i], offsets[i + 1] - offsets[i]);
+            assertEquals(new ElbonianArabicConverter(Integer.toString(values[i])).toElbonian(), numerals[i]);
+        }
+
+        int[] parsed = new int[count];
+        FailureReason[] reasons = new FailureReason[count];
+        assertEquals(0, BatchConverter.toArabic(numerals, parsed, reasons));
+        for (int i = 0; i < count; i++) {
+            assertEquals(new ElbonianArabicConverter(numerals[i]).toArabic(), parsed[i]);
+            assertNull(reasons[i]);
+        }
+    }
+
+    @Test
+    public void badValuesDoNotAbortTheBatch() {
+        int[] values = {12, 0, 2999, 3000};
+        char[] out = new char[values.length * ElbonianTables.MAX_LENGTH];
+        int[] offsets = new int[values.length + 1];
+        FailureReason[] reasons = new FailureReason[values.length];
+        assertEquals(2, BatchConverter.toElbonian(values, out, offsets, reasons));
+        assertEquals("XII", new String(out, offsets[0], offsets[1] - offsets[0]));
+        assertEquals(offsets[1], offsets[2]);
+        assertEquals("MMEDZYKJ", new String(out, offsets[2], offsets[3] - offsets[2]));
+        assertEquals(offsets[3], offsets[4]);
+        assertEquals(Arrays.asList(null, FailureReason.OUT_OF_RANGE, null, FailureReason.OUT_OF_RANGE),
+                Arrays.asList(reasons));
+    }
+
+    @Test
+    public void badNumeralsDoNotAbortTheBatch() {
+        List<CharSequence> numbers = Arrays.<CharSequence>asList(" 1,234 ", "MMM", new StringBuilder("MMDZYJI"), "0");
+        int[] out = new int[numbers.size()];
+        FailureReason[] reasons = new FailureReason[numbers.size()];
+        assertEquals(2, BatchConverter.toArabic(numbers, out, reasons));
+        assertEquals(1234, out[0]);
+        assertEquals(-1, out[1]);
+        assertEquals(2394, out[2]);
+        assertEquals(-1, out[3]);
+        assertEquals(Arrays.asList(null, FailureReason.TOO_MANY_REPEATS, null, FailureReason.OUT_OF_RANGE),
+                Arrays.asList(reasons));
+    }
+}
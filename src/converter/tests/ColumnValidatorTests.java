@@ -0,0 +1,122 @@
+package converter.tests;
+
+import converter.ColumnValidator;
+import converter.ElbonianArabicConverter;
+import converter.ElbonianTables;
+import converter.ParseResult;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test cases for ColumnValidator, which compare the vector and the scalar validation with the parser over
+ * every short field and over mutations of every numeral. The vector validation is only used when the tests
+ * run with --add-modules jdk.incubator.vector, as the build does.
+ */
+public class ColumnValidatorTests {
+
+    private static final byte[] ALPHABET = "IJKXYZCDEM A1".getBytes(StandardCharsets.US_ASCII);
+
+    // The field is valid if it is an Elbonian numeral followed by nothing but spaces
+    private static boolean reference(byte[] column, int start, int width) {
+        int end = start + width;
+        while (end > start && column[end - 1] == ' ') {
+            end--;
+        }
+        String numeral = new String(column, start, end - start, StandardCharsets.ISO_8859_1);
+        if (numeral.isEmpty() || numeral.indexOf(' ') >= 0) {
+            return false;
+        }
+        long result = ElbonianArabicConverter.tryParse(numeral);
+        return ParseResult.isSuccess(result) && ParseResult.isElbonian(result);
+    }
+
+    private static void check(byte[] column, int offset, int width, int count) {
+        boolean[] expected = new boolean[count];
+        int expectedFailures = 0;
+        for (int field = 0; field < count; field++) {
+            expected[field] = reference(column, offset + field * width, width);
+            if (!expected[field]) {
+                expectedFailures++;
+            }
+        }
+        boolean[] scalar = new boolean[count];
+        assertEquals(expectedFailures, ColumnValidator.validateScalar(column, offset, width, count, scalar));
+        assertArrayEquals(expected, scalar);
+        boolean[] valid = new boolean[count];
+        assertEquals(expectedFailures, ColumnValidator.validate(column, offset, width, count, valid));
+        assertArrayEquals(expected, valid);
+    }
+
+    @Test
+    public void vectorizedWhenTheModuleIsPresent() {
+        assertEquals(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent(), ColumnValidator.isVectorized());
+    }
+
+    @Test
+    public void everyShortField() {
+        int length = 5;
+        for (int width : new int[]{5, 8, 12}) {
+            int count = (int) Math.pow(ALPHABET.length, length);
+            byte[] column = new byte[count * width + 3];
+            Arrays.fill(column, (byte) ' ');
+            for (int field = 0; field < count; field++) {
+                int digits = field;
+                for (int i = 0; i < length; i++) {
+                    column[3 + field * width + i] = ALPHABET[digits % ALPHABET.length];
+                    digits /= ALPHABET.length;
+                }
+            }
+            check(column, 3, width, count);
+        }
+    }
+
+    @Test
+    public void mutatedNumerals() {
+        Random random = new Random(3733);
+        for (int width : new int[]{1, 2, 3, 11, 12, 16, 21, 32, 64, 65}) {
+            int count = 4 * ElbonianTables.MAX_VALUE;
+            byte[] column = new byte[count * width];
+            Arrays.fill(column, (byte) ' ');
+            for (int field = 0; field < count; field++) {
+                String numeral = ElbonianTables.toElbonian(field % ElbonianTables.MAX_VALUE + 1);
+                int start = field * width;
+                for (int i = 0; i < Math.min(width, numeral.length()); i++) {
+                    column[start + i] = (byte) numeral.charAt(i);
+                }
+                // Leave a quarter of the numerals alone and change one or two bytes of the others
+                int changes = random.nextInt(4) == 0 ? 0 : 1 + random.nextInt(2);
+                for (int j = 0; j < changes; j++) {
+                    column[start + random.nextInt(Math.min(width, numeral.length() + 2))] =
+                            ALPHABET[random.nextInt(ALPHABET.length)];
+                }
+            }
+            check(column, 0, width, count);
+        }
+    }
+
+    @Test
+    public void partOfAColumn() {
+        byte[] column = "XII   IIII  MMECCZXXKII ".getBytes(StandardCharsets.US_ASCII);
+        boolean[] valid = new boolean[3];
+        assertEquals(1, ColumnValidator.validate(column, 0, 6, 2, valid));
+        assertArrayEquals(new boolean[]{true, false, false}, valid);
+        assertEquals(0, ColumnValidator.validate(column, 12, 12, 1, valid));
+        assertEquals(true, valid[0]);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void fieldsMustFit() {
+        ColumnValidator.validate(new byte[10], 0, 4, 3, new boolean[3]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void widthMustBePositive() {
+        ColumnValidator.validate(new byte[10], 0, 0, 3, new boolean[3]);
+    }
+}
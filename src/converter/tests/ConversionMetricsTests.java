@@ -0,0 +1,139 @@
+package converter.tests;
+
+import converter.ConversionMetrics;
+import converter.Direction;
+import converter.ElbonianArabicConverter;
+import converter.exceptions.FailureReason;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.management.Attribute;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test cases for the ConversionMetrics counters, MBean and Flight Recorder events.
+ */
+public class ConversionMetricsTests {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Before
+    public void setUp() {
+        ConversionMetrics.reset();
+    }
+
+    @After
+    public void tearDown() {
+        ConversionMetrics.disable();
+        ConversionMetrics.reset();
+    }
+
+    private static void parseAll(String... numbers) {
+        for (String number : numbers) {
+            ElbonianArabicConverter.tryParse(number);
+        }
+    }
+
+    @Test
+    public void nothingIsCountedWhileDisabled() {
+        assertFalse(ConversionMetrics.isEnabled());
+        parseAll("12", "XII", "IIII");
+        assertEquals(0, ConversionMetrics.snapshot().getTotal());
+    }
+
+    @Test
+    public void countsDirectionsAndFailureReasons() {
+        ConversionMetrics.enable();
+        parseAll("12", " 1,000 ", "XII", "MMECCZXXKII", "IIII", "IX", "ZYX", "1,00", "012", "3000", "");
+        ConversionMetrics.Snapshot snapshot = ConversionMetrics.snapshot();
+        assertEquals(11, snapshot.getTotal());
+        assertEquals(2, snapshot.getConversions(Direction.TO_ARABIC));
+        assertEquals(2, snapshot.getConversions(Direction.TO_ELBONIAN));
+        assertEquals(1, snapshot.getFailures(FailureReason.TOO_MANY_REPEATS));
+        assertEquals(1, snapshot.getFailures(FailureReason.BAD_ORDER));
+        assertEquals(1, snapshot.getFailures(FailureReason.ILLEGAL_TRIPLE));
+        assertEquals(1, snapshot.getFailures(FailureReason.BAD_COMMAS));
+        assertEquals(1, snapshot.getFailures(FailureReason.LEADING_ZERO));
+        assertEquals(1, snapshot.getFailures(FailureReason.OUT_OF_RANGE));
+        assertEquals(1, snapshot.getFailures(FailureReason.EMPTY));
+        assertEquals(0, snapshot.getFailures(FailureReason.DECIMAL));
+
+        long histogramTotal = 0;
+        for (long count : snapshot.getLatencyHistogram()) {
+            histogramTotal += count;
+        }
+        assertEquals(11, histogramTotal);
+        assertTrue(snapshot.getLatencyPercentile(50) <= snapshot.getLatencyPercentile(100));
+
+        ConversionMetrics.reset();
+        assertEquals(0, ConversionMetrics.snapshot().getTotal());
+    }
+
+    @Test
+    public void constructorIsCounted() throws Exception {
+        ConversionMetrics.enable();
+        new ElbonianArabicConverter("MMECCZXXKII");
+        try {
+            new ElbonianArabicConverter("3000");
+        } catch (Exception e) {
+            // Expected
+        }
+        ConversionMetrics.Snapshot snapshot = ConversionMetrics.snapshot();
+        assertEquals(1, snapshot.getConversions(Direction.TO_ARABIC));
+        assertEquals(1, snapshot.getFailures(FailureReason.OUT_OF_RANGE));
+    }
+
+    @Test
+    public void mbeanReadsAndControlsTheMetrics() throws Exception {
+        ObjectName name = ConversionMetrics.registerMBean();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            assertEquals(false, server.getAttribute(name, "Enabled"));
+            server.setAttribute(name, new Attribute("Enabled", true));
+            assertTrue(ConversionMetrics.isEnabled());
+            parseAll("12", "IIII");
+            assertEquals(1L, server.getAttribute(name, "ToElbonianConversions"));
+            assertEquals(0L, server.getAttribute(name, "ToArabicConversions"));
+            server.invoke(name, "reset", null, null);
+            assertEquals(0L, server.getAttribute(name, "ToElbonianConversions"));
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+
+    @Test
+    public void emitsFlightRecorderEvents() throws Exception {
+        Path file = folder.newFile("conversions.jfr").toPath();
+        try (Recording recording = new Recording()) {
+            recording.enable("converter.Conversion");
+            recording.start();
+            ConversionMetrics.enable();
+            parseAll("XII", "IIII");
+            ConversionMetrics.disable();
+            parseAll("12");
+            recording.stop();
+            recording.dump(file);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertEquals(2, events.size());
+        assertEquals(12, events.get(0).getInt("value"));
+        assertTrue(events.get(0).getBoolean("elbonian"));
+        assertEquals(FailureReason.TOO_MANY_REPEATS.name(), events.get(1).getString("reason"));
+        assertEquals(2, events.get(1).getInt("position"));
+    }
+}
@@ -0,0 +1,352 @@
+package converter.tests;
+
+import converter.Direction;
+import converter.ElbonianTables;
+import converter.exceptions.FailureReason;
+import converter.flow.Conversion;
+import converter.flow.ConversionProcessor;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test cases for ConversionProcessor, following the rules of the Reactive Streams specification that a
+ * processor has to keep: no more elements than requested, serial signals, and cancellation.
+ */
+public class ConversionProcessorTests {
+
+    /**
+     * A publisher of a fixed list of elements that emits on the thread that requests them and records the demand.
+     */
+    private static final class ListPublisher implements Flow.Publisher<String> {
+
+        private final List<String> items;
+        private long requested;
+        private long maxOutstanding;
+        private int next;
+        private boolean cancelled;
+        private boolean emitting;
+        private Flow.Subscriber<? super String> subscriber;
+
+        ListPublisher(List<String> items) {
+            this.items = items;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super String> subscriber) {
+            this.subscriber = subscriber;
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    requested += n;
+                    maxOutstanding = Math.max(maxOutstanding, requested);
+                    emit();
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+
+        private void emit() {
+            if (emitting) {
+                return;
+            }
+            emitting = true;
+            while (requested > 0 && next < items.size() && !cancelled) {
+                requested--;
+                subscriber.onNext(items.get(next++));
+            }
+            if (next == items.size() && !cancelled) {
+                cancelled = true;
+                subscriber.onComplete();
+            }
+            emitting = false;
+        }
+    }
+
+    /**
+     * A subscriber that records every signal and requests only when told to.
+     */
+    private static final class Recorder implements Flow.Subscriber<Conversion> {
+
+        private final List<Conversion> items = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private Throwable error;
+        private int completions;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Conversion item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completions++;
+        }
+    }
+
+    private static List<String> numerals(int count) {
+        List<String> numerals = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            numerals.add(ElbonianTables.toElbonian(i));
+        }
+        return numerals;
+    }
+
+    private static Recorder connect(ListPublisher publisher, ConversionProcessor processor) {
+        Recorder recorder = new Recorder();
+        processor.subscribe(recorder);
+        publisher.subscribe(processor);
+        return recorder;
+    }
+
+    @Test
+    public void emitsNoMoreThanRequested() {
+        ListPublisher publisher = new ListPublisher(numerals(100));
+        Recorder recorder = connect(publisher, new ConversionProcessor(Direction.TO_ARABIC, false, 16));
+        assertEquals(0, recorder.items.size());
+        recorder.subscription.request(3);
+        assertEquals(3, recorder.items.size());
+        recorder.subscription.request(20);
+        assertEquals(23, recorder.items.size());
+        recorder.subscription.request(1000);
+        assertEquals(100, recorder.items.size());
+        assertEquals(1, recorder.completions);
+        assertNull(recorder.error);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i + 1, recorder.items.get(i).getValue());
+            assertEquals(String.valueOf(i + 1), recorder.items.get(i).getOutput());
+        }
+    }
+
+    @Test
+    public void requestsBoundedBatchesFromUpstream() {
+        ListPublisher publisher = new ListPublisher(numerals(1000));
+        Recorder recorder = connect(publisher, new ConversionProcessor(Direction.TO_ARABIC, false, 32));
+        assertEquals(32, publisher.maxOutstanding);
+        recorder.subscription.request(Long.MAX_VALUE);
+        assertEquals(1000, recorder.items.size());
+        assertEquals(1, recorder.completions);
+        assertTrue(publisher.maxOutstanding <= 32);
+    }
+
+    @Test
+    public void emitsElementsBeforeTheBatchIsFull() {
+        ConversionProcessor processor = new ConversionProcessor(Direction.TO_ARABIC, false, 32);
+        Recorder recorder = new Recorder();
+        processor.subscribe(recorder);
+        long[] upstreamRequested = new long[1];
+        processor.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                upstreamRequested[0] += n;
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+        assertEquals(32, upstreamRequested[0]);
+        recorder.subscription.request(Long.MAX_VALUE);
+        // Upstream pauses after ten elements, which are emitted anyway
+        for (String numeral : numerals(10)) {
+            processor.onNext(numeral);
+        }
+        assertEquals(10, recorder.items.size());
+        assertEquals(32, upstreamRequested[0]);
+        // Half a batch has been emitted, so upstream is asked to refill it before the batch runs out
+        for (String numeral : numerals(6)) {
+            processor.onNext(numeral);
+        }
+        assertEquals(16, recorder.items.size());
+        assertEquals(48, upstreamRequested[0]);
+    }
+
+    @Test
+    public void badElementsDoNotEndTheStream() {
+        List<String> items = new ArrayList<>();
+        items.add("XII");
+        items.add("IIII");
+        items.add("3000");
+        items.add("");
+        items.add("12");
+        ListPublisher publisher = new ListPublisher(items);
+        Recorder recorder = connect(publisher, new ConversionProcessor(Direction.TO_ELBONIAN, false, 2));
+        recorder.subscription.request(Long.MAX_VALUE);
+        assertEquals(5, recorder.items.size());
+        assertEquals(1, recorder.completions);
+        assertNull(recorder.error);
+
+        Conversion first = recorder.items.get(0);
+        assertTrue(first.isSuccess());
+        assertEquals("XII", first.getOutput());
+        Conversion repeated = recorder.items.get(1);
+        assertFalse(repeated.isSuccess());
+        assertEquals(FailureReason.TOO_MANY_REPEATS, repeated.getReason());
+        assertEquals(2, repeated.getPosition());
+        assertNull(repeated.getOutput());
+        assertEquals(FailureReason.OUT_OF_RANGE, recorder.items.get(2).getReason());
+        assertEquals(FailureReason.EMPTY, recorder.items.get(3).getReason());
+        assertEquals("XII", recorder.items.get(4).getOutput());
+    }
+
+    @Test
+    public void strictRejectsTheTargetForm() {
+        List<String> items = new ArrayList<>();
+        items.add("12");
+        items.add("XII");
+        ListPublisher publisher = new ListPublisher(items);
+        Recorder recorder = connect(publisher, new ConversionProcessor(Direction.TO_ARABIC, true, 4));
+        recorder.subscription.request(2);
+        assertFalse(recorder.items.get(0).isSuccess());
+        assertEquals(12, recorder.items.get(1).getValue());
+    }
+
+    @Test
+    public void completesWithoutDemandWhenEmpty() {
+        ListPublisher publisher = new ListPublisher(new ArrayList<>());
+        Recorder recorder = connect(publisher, new ConversionProcessor(Direction.TO_ARABIC, false, 8));
+        assertEquals(1, recorder.completions);
+    }
+
+    @Test
+    public void errorFollowsBufferedElements() {
+        ConversionProcessor processor = new ConversionProcessor(Direction.TO_ARABIC, false, 8);
+        Recorder recorder = new Recorder();
+        processor.subscribe(recorder);
+        processor.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+        processor.onNext("I");
+        IllegalStateException failure = new IllegalStateException("upstream failed");
+        processor.onError(failure);
+        assertNull(recorder.error);
+        recorder.subscription.request(1);
+        assertEquals(1, recorder.items.size());
+        assertEquals(failure, recorder.error);
+        assertEquals(0, recorder.completions);
+    }
+
+    @Test
+    public void nonPositiveRequestIsAnError() {
+        ListPublisher publisher = new ListPublisher(numerals(10));
+        Recorder recorder = connect(publisher, new ConversionProcessor(Direction.TO_ARABIC, false, 8));
+        recorder.subscription.request(0);
+        assertTrue(recorder.error instanceof IllegalArgumentException);
+        assertTrue(publisher.cancelled);
+        recorder.subscription.request(5);
+        assertEquals(0, recorder.items.size());
+        assertEquals(0, recorder.completions);
+    }
+
+    @Test
+    public void cancelStopsTheStream() {
+        ListPublisher publisher = new ListPublisher(numerals(100));
+        Recorder recorder = connect(publisher, new ConversionProcessor(Direction.TO_ARABIC, false, 8));
+        recorder.subscription.request(5);
+        recorder.subscription.cancel();
+        assertTrue(publisher.cancelled);
+        recorder.subscription.request(5);
+        assertEquals(5, recorder.items.size());
+        assertEquals(0, recorder.completions);
+        assertNull(recorder.error);
+    }
+
+    @Test
+    public void secondSubscriberIsRejected() {
+        ConversionProcessor processor = new ConversionProcessor(Direction.TO_ARABIC, false, 8);
+        processor.subscribe(new Recorder());
+        Recorder second = new Recorder();
+        processor.subscribe(second);
+        assertTrue(second.error instanceof IllegalStateException);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void batchSizeMustBePositive() {
+        new ConversionProcessor(Direction.TO_ARABIC, false, 0);
+    }
+
+    @Test
+    public void asynchronousStreamArrivesInOrder() throws InterruptedException {
+        int count = 50000;
+        List<Integer> values = new ArrayList<>();
+        CountDownLatch completed = new CountDownLatch(1);
+        Random random = new Random(7);
+        ConversionProcessor processor = new ConversionProcessor(Direction.TO_ELBONIAN, false, 64);
+        processor.subscribe(new Flow.Subscriber<Conversion>() {
+            private Flow.Subscription subscription;
+            private long outstanding;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                outstanding = 1;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(Conversion item) {
+                if (--outstanding < 0) {
+                    throw new AssertionError("More elements than requested");
+                }
+                values.add(item.getValue());
+                if (outstanding == 0) {
+                    long n = 1 + random.nextInt(100);
+                    outstanding = n;
+                    subscription.request(n);
+                }
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                throw new AssertionError(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                completed.countDown();
+            }
+        });
+        try (SubmissionPublisher<String> publisher = new SubmissionPublisher<>()) {
+            publisher.subscribe(processor);
+            for (int i = 0; i < count; i++) {
+                publisher.submit(String.valueOf(i % ElbonianTables.MAX_VALUE + 1));
+            }
+        }
+        assertTrue(completed.await(30, TimeUnit.SECONDS));
+        assertEquals(count, values.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(i % ElbonianTables.MAX_VALUE + 1, (int) values.get(i));
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package converter.tests;
+
+import converter.Direction;
+import converter.ElbonianTables;
+import converter.flow.Conversion;
+import converter.flow.ConversionProcessor;
+import org.reactivestreams.tck.TestEnvironment;
+import org.reactivestreams.tck.flow.FlowPublisherVerification;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs the publisher rules of the Reactive Streams TCK against the downstream side of ConversionProcessor,
+ * fed by a publisher of numerals. The TCK is based on TestNG, so the tckTest task runs it.
+ */
+public class ConversionPublisherTckTests extends FlowPublisherVerification<Conversion> {
+
+    public ConversionPublisherTckTests() {
+        super(new TestEnvironment(300));
+    }
+
+    @Override
+    public Flow.Publisher<Conversion> createFlowPublisher(long elements) {
+        ConversionProcessor processor = new ConversionProcessor(Direction.TO_ARABIC, false, 16);
+        new NumeralPublisher(elements).subscribe(processor);
+        return processor;
+    }
+
+    @Override
+    public Flow.Publisher<Conversion> createFailedFlowPublisher() {
+        ConversionProcessor processor = new ConversionProcessor(Direction.TO_ARABIC, false, 16);
+        processor.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+        processor.onError(new IllegalStateException("upstream failed"));
+        return processor;
+    }
+
+    /**
+     * A publisher of a number of Elbonian numerals that emits on the thread that requests them, one thread at
+     * a time.
+     */
+    private static final class NumeralPublisher implements Flow.Publisher<String> {
+
+        private final long count;
+
+        NumeralPublisher(long count) {
+            this.count = count;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super String> subscriber) {
+            AtomicLong requested = new AtomicLong();
+            long[] next = new long[1];
+            boolean[] cancelled = new boolean[1];
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    long previous;
+                    long updated;
+                    do {
+                        previous = requested.get();
+                        updated = previous + n < 0 ? Long.MAX_VALUE : previous + n;
+                    } while (!requested.compareAndSet(previous, updated));
+                    if (previous != 0) {
+                        // The thread that is emitting picks up the new demand
+                        return;
+                    }
+                    long emitted = 0;
+                    while (true) {
+                        long demand = requested.get();
+                        while (emitted != demand && next[0] < count && !cancelled[0]) {
+                            int value = (int) (next[0]++ % ElbonianTables.MAX_VALUE) + 1;
+                            subscriber.onNext(ElbonianTables.toElbonian(value));
+                            emitted++;
+                        }
+                        if (cancelled[0]) {
+                            return;
+                        }
+                        if (next[0] == count) {
+                            cancelled[0] = true;
+                            subscriber.onComplete();
+                            return;
+                        }
+                        if (requested.addAndGet(-emitted) == 0) {
+                            return;
+                        }
+                        emitted = 0;
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled[0] = true;
+                }
+            });
+            if (count == 0) {
+                cancelled[0] = true;
+                subscriber.onComplete();
+            }
+        }
+    }
+}
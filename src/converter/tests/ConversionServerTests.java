@@ -0,0 +1,121 @@
+package converter.tests;
+
+import converter.ConversionMetrics;
+import converter.ElbonianTables;
+import converter.server.ConversionServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test cases for the ConversionServer endpoints, on a server listening on a free local port.
+ */
+public class ConversionServerTests {
+
+    private ConversionServer server;
+    private HttpClient client;
+
+    @BeforeClass
+    public static void setUpClass() {
+        // As ConversionServer asks of whoever embeds it
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        server = ConversionServer.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+        ConversionMetrics.disable();
+        ConversionMetrics.reset();
+    }
+
+    private URI uri(String pathAndQuery) {
+        return URI.create("http://localhost:" + server.getAddress().getPort() + pathAndQuery);
+    }
+
+    private HttpResponse<String> get(String pathAndQuery) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(uri(pathAndQuery)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String pathAndQuery, String body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri(pathAndQuery))
+                .POST(HttpRequest.BodyPublishers.ofString(body)).build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private void assertResponse(int status, String body, HttpResponse<String> response) {
+        assertEquals(body, response.body());
+        assertEquals(status, response.statusCode());
+    }
+
+    @Test
+    public void convertsOneNumber() throws IOException, InterruptedException {
+        assertResponse(200, "MMECCZXXKII\n", get("/to-elbonian?number=2888"));
+        assertResponse(200, "12\n", get("/to-arabic?number=XII"));
+        assertResponse(200, "M\n", get("/to-elbonian?number=+1%2C000+"));
+        assertResponse(200, "12\n", get("/to-arabic?number=12"));
+        assertResponse(422, "error\tWRONG_FORM\t0\n", get("/to-arabic?number=12&strict=true"));
+    }
+
+    @Test
+    public void reportsFailureReasons() throws IOException, InterruptedException {
+        assertResponse(422, "error\tTOO_MANY_REPEATS\t3\n", get("/to-arabic?number=IIII"));
+        assertResponse(422, "error\tOUT_OF_RANGE\t1\n", get("/to-elbonian?number=3000"));
+        assertResponse(422, "error\tILLEGAL_CHARACTER\t2\n", get("/to-elbonian?number=1%C3%A92"));
+        assertResponse(400, "The number parameter is required\n", get("/to-elbonian"));
+        assertResponse(404, "Not found\n", get("/to-elbonian/12"));
+    }
+
+    @Test
+    public void convertsBatches() throws IOException, InterruptedException {
+        assertResponse(200, "XII\nerror\tTOO_MANY_REPEATS\t3\nI\nMMEDZYKJ\nerror\tEMPTY\t0\nJ\n",
+                post("/to-elbonian", "12\nIIII\r\n1\n2,999\n\nJ"));
+        assertResponse(200, "12\nerror\tWRONG_FORM\t0\n", post("/to-arabic?strict=true", "XII\n12\n"));
+        assertResponse(200, "", post("/to-arabic", ""));
+        StringBuilder body = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        for (int value = 1; value <= 2999; value++) {
+            body.append(value).append('\n');
+            expected.append(ElbonianTables.toElbonian(value)).append('\n');
+        }
+        assertResponse(200, expected.toString(), post("/to-elbonian", body.toString()));
+    }
+
+    @Test
+    public void reportsHealthAndMetrics() throws IOException, InterruptedException {
+        ConversionMetrics.reset();
+        ConversionMetrics.enable();
+        assertResponse(200, "UP\n", get("/health"));
+        get("/to-elbonian?number=12");
+        get("/to-arabic?number=IIII");
+        String metrics = get("/metrics").body();
+        assertTrue(metrics, metrics.contains("requests 4\n"));
+        assertTrue(metrics, metrics.contains("conversions_to_elbonian 1\n"));
+        assertTrue(metrics, metrics.contains("failures_too_many_repeats 1\n"));
+        assertEquals(4, server.getRequests());
+    }
+
+    @Test
+    public void rejectsPathsUnderHealthAndMetrics() throws IOException, InterruptedException {
+        assertResponse(404, "Not found\n", get("/healthz"));
+        assertResponse(404, "Not found\n", get("/health/anything"));
+        assertResponse(404, "Not found\n", get("/metricsfoo"));
+    }
+}
@@ -0,0 +1,30 @@
+package converter.tests;
+
+import converter.Direction;
+import converter.ElbonianTables;
+import converter.flow.ConversionProcessor;
+import org.reactivestreams.tck.TestEnvironment;
+import org.reactivestreams.tck.flow.FlowSubscriberBlackboxVerification;
+
+import java.util.concurrent.Flow;
+
+/**
+ * Runs the subscriber rules of the Reactive Streams TCK against the upstream side of ConversionProcessor. The
+ * TCK is based on TestNG, so the tckTest task runs it.
+ */
+public class ConversionSubscriberTckTests extends FlowSubscriberBlackboxVerification<String> {
+
+    public ConversionSubscriberTckTests() {
+        super(new TestEnvironment(300));
+    }
+
+    @Override
+    public Flow.Subscriber<String> createFlowSubscriber() {
+        return new ConversionProcessor(Direction.TO_ARABIC, false, 16);
+    }
+
+    @Override
+    public String createElement(int element) {
+        return ElbonianTables.toElbonian(element % ElbonianTables.MAX_VALUE + 1);
+    }
+}
@@ -0,0 +1,142 @@
+package converter.tests;
+
+import converter.ElbonianArabicConverter;
+import converter.ElbonianTables;
+import converter.ParseResult;
+import converter.exceptions.FailureReason;
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test cases that compare the single pass Elbonian automaton with the original three scan validation.
+ */
+public class ElbonianAutomatonTests {
+
+    // Ordered from the smallest to the largest symbol, like the original validCharacters list
+    private static final char[] SYMBOLS = {'I', 'J', 'K', 'X', 'Y', 'Z', 'C', 'D', 'E', 'M'};
+
+    private static final ArrayList<Character> validCharacters = new ArrayList<>();
+    private static final ArrayList<Character> singleCharacters = new ArrayList<>();
+    private static final ArrayList<Character> doubleCharacters = new ArrayList<>();
+
+    static {
+        for (char c : SYMBOLS) {
+            validCharacters.add(c);
+        }
+        for (char c : "DEYZJK".toCharArray()) {
+            singleCharacters.add(c);
+        }
+        for (char c : "MCXI".toCharArray()) {
+            doubleCharacters.add(c);
+        }
+    }
+
+    /**
+     * The original three scan Elbonian validation, kept here as the reference for the automaton.
+     */
+    private static boolean legacyCheckElbonian(String string) {
+        return inOrderAndLegalCharacters(string) && areLegalCount(string) && areLegalPair(string);
+    }
+
+    private static boolean inOrderAndLegalCharacters(String string) {
+        int lastIndex = -1;
+        for (char c : string.toCharArray()) {
+            if (validCharacters.contains(c)) {
+                int currentIndex = validCharacters.indexOf(c);
+                if (lastIndex != -1 && currentIndex > lastIndex) {
+                    return false;
+                }
+                lastIndex = currentIndex;
+            } else {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean areLegalCount(String string) {
+        for (char c : doubleCharacters) {
+            if (string.length() - string.replace(String.valueOf(c), "").length() > 2) {
+                return false;
+            }
+        }
+        for (char c : singleCharacters) {
+            if (string.length() - string.replace(String.valueOf(c), "").length() > 1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean areLegalPair(String string) {
+        if (string.contains("D") && string.contains("E") && string.contains("C")) {
+            return false;
+        } else if (string.contains("Y") && string.contains("Z") && string.contains("X")) {
+            return false;
+        } else return !string.contains("J") || !string.contains("K") || !string.contains("I");
+    }
+
+    private static void assertSameAnswer(String string) {
+        long result = ElbonianArabicConverter.tryParse(string);
+        assertEquals(string, legacyCheckElbonian(string), ParseResult.isSuccess(result));
+    }
+
+    @Test
+    public void matchesEveryShortString() {
+        // Every string over the symbols plus one foreign character, up to six characters long
+        char[] alphabet = "IJKXYZCDEMA".toCharArray();
+        char[] buffer = new char[6];
+        for (int length = 1; length <= buffer.length; length++) {
+            int[] digits = new int[length];
+            int total = (int) Math.pow(alphabet.length, length);
+            for (int n = 0; n < total; n++) {
+                int rest = n;
+                for (int i = 0; i < length; i++) {
+                    digits[i] = rest % alphabet.length;
+                    rest /= alphabet.length;
+                    buffer[i] = alphabet[digits[i]];
+                }
+                assertSameAnswer(new String(buffer, 0, length));
+            }
+        }
+    }
+
+    @Test
+    public void matchesEveryOrderedString() {
+        // Every string with its symbols in descending order, each symbol repeated up to three times. Any
+        // string that is not in descending order is rejected by both validators on the ordering rule alone.
+        int[] counts = new int[SYMBOLS.length];
+        int total = 1 << (2 * SYMBOLS.length);
+        StringBuilder builder = new StringBuilder();
+        for (int n = 1; n < total; n++) {
+            builder.setLength(0);
+            for (int rank = SYMBOLS.length - 1; rank >= 0; rank--) {
+                counts[rank] = (n >> (2 * rank)) & 3;
+                for (int i = 0; i < counts[rank]; i++) {
+                    builder.append(SYMBOLS[rank]);
+                }
+            }
+            assertSameAnswer(builder.toString());
+        }
+    }
+
+    @Test
+    public void longestLegalNumeral() {
+        long result = ElbonianArabicConverter.tryParse("MMECCZXXKII");
+        assertEquals(ElbonianTables.MAX_LENGTH, "MMECCZXXKII".length());
+        assertEquals(2888, ParseResult.value(result));
+    }
+
+    @Test
+    public void reportsFirstRejectedCharacter() {
+        long result = ElbonianArabicConverter.tryParse("MMMCD");
+        assertEquals(FailureReason.TOO_MANY_REPEATS, ParseResult.reason(result));
+        assertEquals(2, ParseResult.position(result));
+        result = ElbonianArabicConverter.tryParse("MDEC");
+        assertEquals(FailureReason.BAD_ORDER, ParseResult.reason(result));
+        assertEquals(2, ParseResult.position(result));
+    }
+}
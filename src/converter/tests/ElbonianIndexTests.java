@@ -0,0 +1,78 @@
+package converter.tests;
+
+import converter.ElbonianArabicConverter;
+import converter.ElbonianIndex;
+import converter.ElbonianTables;
+import converter.ParseResult;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test cases for the ElbonianIndex of valid numerals.
+ */
+public class ElbonianIndexTests {
+
+    private static final char[] SYMBOLS = {'I', 'J', 'K', 'X', 'Y', 'Z', 'C', 'D', 'E', 'M'};
+
+    // The index must accept exactly the strings the converter parses as Elbonian, with the same value
+    private static void assertSameAnswer(String string) {
+        long result = ElbonianArabicConverter.tryParse(string);
+        boolean valid = ParseResult.isSuccess(result) && ParseResult.isElbonian(result);
+        assertEquals(string, valid, ElbonianIndex.contains(string));
+        assertEquals(string, valid ? ParseResult.value(result) : -1, ElbonianIndex.valueOf(string));
+    }
+
+    @Test
+    public void enumeratesEveryValueOnce() {
+        List<String> numerals = ElbonianIndex.numerals();
+        assertEquals(ElbonianTables.MAX_VALUE, ElbonianIndex.size());
+        assertEquals(ElbonianIndex.size(), numerals.size());
+        assertEquals(numerals.size(), new HashSet<>(numerals).size());
+        for (int value = ElbonianTables.MIN_VALUE; value <= ElbonianTables.MAX_VALUE; value++) {
+            String numeral = numerals.get(value - 1);
+            assertEquals(Collections.singletonList(numeral), ElbonianIndex.spellings(value));
+            assertEquals(value, ElbonianIndex.valueOf(numeral));
+        }
+    }
+
+    @Test
+    public void matchesTheConverterOnEveryOrderedString() {
+        // Every string with its symbols in descending order, each symbol repeated up to three times, which
+        // includes every string the converter accepts
+        Set<String> accepted = new HashSet<>();
+        int total = 1 << (2 * SYMBOLS.length);
+        StringBuilder builder = new StringBuilder();
+        for (int n = 1; n < total; n++) {
+            builder.setLength(0);
+            for (int rank = SYMBOLS.length - 1; rank >= 0; rank--) {
+                for (int i = 0; i < ((n >> (2 * rank)) & 3); i++) {
+                    builder.append(SYMBOLS[rank]);
+                }
+            }
+            String string = builder.toString();
+            assertSameAnswer(string);
+            if (ElbonianIndex.contains(string)) {
+                accepted.add(string);
+            }
+        }
+        assertEquals(new HashSet<>(ElbonianIndex.numerals()), accepted);
+    }
+
+    @Test
+    public void rejectsOtherStrings() {
+        // Unlike the converter, the index does not ignore spaces
+        for (String string : new String[]{"", " I", "I ", "IJ", "IIII", "MMM", "12", "i", "MMECCZXXKIII", "ZYX"}) {
+            assertFalse(string, ElbonianIndex.contains(string));
+        }
+        assertTrue(ElbonianIndex.contains("MMECCZXXKII"));
+        assertEquals(12, ElbonianIndex.valueOf("[XII]", 1, 4));
+    }
+}
@@ -0,0 +1,85 @@
+package converter.tests;
+
+import converter.ElbonianNumber;
+import converter.ElbonianTables;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test cases for the ElbonianNumber value type.
+ */
+public class ElbonianNumberTests {
+
+    @Test
+    public void instancesAreShared() throws MalformedNumberException, ValueOutOfBoundsException {
+        for (int value = ElbonianTables.MIN_VALUE; value <= ElbonianTables.MAX_VALUE; value++) {
+            ElbonianNumber number = ElbonianNumber.valueOf(value);
+            assertSame(number, ElbonianNumber.parse(Integer.toString(value)));
+            assertSame(number, ElbonianNumber.parse(ElbonianTables.toElbonian(value)));
+            assertEquals(value, number.toArabic());
+            assertEquals(ElbonianTables.toElbonian(value), number.toElbonian());
+            assertEquals(number.toElbonian(), number.toString());
+        }
+        assertSame(ElbonianNumber.MIN, ElbonianNumber.parse(" I "));
+        assertSame(ElbonianNumber.MAX, ElbonianNumber.parse("2,999"));
+    }
+
+    @Test
+    public void arithmetic() throws MalformedNumberException, ValueOutOfBoundsException {
+        ElbonianNumber twelve = ElbonianNumber.parse("XII");
+        ElbonianNumber three = ElbonianNumber.parse("J");
+        assertEquals("YJ", twelve.add(ElbonianNumber.parse("21")).toElbonian());
+        assertEquals("KJ", twelve.subtract(three).toElbonian());
+        assertSame(ElbonianNumber.MAX, ElbonianNumber.MAX.subtract(ElbonianNumber.MIN).add(ElbonianNumber.MIN));
+    }
+
+    @Test(expected = ValueOutOfBoundsException.class)
+    public void sumTooLarge() throws ValueOutOfBoundsException {
+        ElbonianNumber.MAX.add(ElbonianNumber.MIN);
+    }
+
+    @Test(expected = ValueOutOfBoundsException.class)
+    public void differenceNotPositive() throws ValueOutOfBoundsException {
+        ElbonianNumber.MIN.subtract(ElbonianNumber.MIN);
+    }
+
+    @Test(expected = ValueOutOfBoundsException.class)
+    public void valueOutOfBounds() throws ValueOutOfBoundsException {
+        ElbonianNumber.valueOf(3000);
+    }
+
+    @Test(expected = MalformedNumberException.class)
+    public void malformedNumeral() throws MalformedNumberException, ValueOutOfBoundsException {
+        ElbonianNumber.parse("IIII");
+    }
+
+    @Test
+    public void comparison() throws ValueOutOfBoundsException {
+        ElbonianNumber small = ElbonianNumber.valueOf(999);
+        ElbonianNumber large = ElbonianNumber.valueOf(1000);
+        assertTrue(small.compareTo(large) < 0);
+        assertTrue(large.compareTo(small) > 0);
+        assertEquals(0, small.compareTo(ElbonianNumber.valueOf(999)));
+        assertSame(small, small.min(large));
+        assertSame(large, small.max(large));
+        assertTrue(ElbonianNumber.MIN.compareTo(ElbonianNumber.MAX) < 0);
+    }
+
+    @Test
+    public void mapKeys() throws ValueOutOfBoundsException {
+        Map<ElbonianNumber, Integer> map = new HashMap<>();
+        for (int value = ElbonianTables.MIN_VALUE; value <= ElbonianTables.MAX_VALUE; value++) {
+            map.put(ElbonianNumber.valueOf(value), value);
+        }
+        assertEquals(ElbonianTables.MAX_VALUE, map.size());
+        assertEquals(Integer.valueOf(1234), map.get(ElbonianNumber.valueOf(1234)));
+    }
+}
@@ -0,0 +1,195 @@
+package converter.tests;
+
+import converter.ElbonianArabicConverter;
+import converter.ElbonianScanner;
+import converter.ElbonianTables;
+import converter.ParseResult;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test cases for ElbonianScanner, checked against splitting the text into tokens and parsing every token.
+ */
+public class ElbonianScannerTests {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static List<String> scan(ElbonianScanner scanner, String text) {
+        List<String> matches = new ArrayList<>();
+        long count = scanner.scan(text, (offset, length, value) ->
+                matches.add(offset + ":" + text.substring((int) offset, (int) offset + length) + "=" + value));
+        assertEquals(count, matches.size());
+        return matches;
+    }
+
+    // The matches found by splitting the text at the characters that cannot be part of a numeral
+    private static List<String> reference(ElbonianScanner.Boundary boundary, String text) {
+        List<String> matches = new ArrayList<>();
+        int i = 0;
+        while (i < text.length()) {
+            if (ElbonianTables.rank(text.charAt(i)) < 0) {
+                i++;
+                continue;
+            }
+            int start = i;
+            while (i < text.length() && ElbonianTables.rank(text.charAt(i)) >= 0) {
+                i++;
+            }
+            if (isBoundary(boundary, text, start - 1) && isBoundary(boundary, text, i)) {
+                long result = ElbonianArabicConverter.tryParse(text, start, i);
+                if (ParseResult.isSuccess(result)) {
+                    matches.add(start + ":" + text.substring(start, i) + "=" + ParseResult.value(result));
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static boolean isBoundary(ElbonianScanner.Boundary boundary, String text, int index) {
+        if (index < 0 || index >= text.length()) {
+            return true;
+        }
+        char c = text.charAt(index);
+        switch (boundary) {
+            case WORD:
+                return !Character.isLetterOrDigit(c) && c != '_';
+            case WHITESPACE:
+                return Character.isWhitespace(c);
+            default:
+                return true;
+        }
+    }
+
+    private static String randomText(Random random, int tokens) {
+        String[] words = {"the", "MIX", "Index", "ZYX", "IIII", "MMM", "XII", "Ice", "_", "\u00e9", "MCMXCIX", "12"};
+        String[] separators = {" ", ", ", "\n", "-", "", "\t", ".", "\u00e9", "\u00a0", " "};
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < tokens; i++) {
+            if (random.nextBoolean()) {
+                builder.append(ElbonianTables.toElbonian(random.nextInt(ElbonianTables.MAX_VALUE) + 1));
+            } else {
+                builder.append(words[random.nextInt(words.length)]);
+            }
+            builder.append(separators[random.nextInt(separators.length)]);
+        }
+        return builder.toString();
+    }
+
+    @Test
+    public void wordBoundaries() {
+        ElbonianScanner scanner = new ElbonianScanner(ElbonianScanner.Boundary.WORD);
+        List<String> expected = new ArrayList<>();
+        expected.add("6:XII=12");
+        expected.add("11:MY=1030");
+        assertEquals(expected, scan(scanner, "Page: XII, MY XIIth IIII MCMXCIX x_XII"));
+    }
+
+    @Test
+    public void whitespaceBoundaries() {
+        ElbonianScanner scanner = new ElbonianScanner(ElbonianScanner.Boundary.WHITESPACE);
+        List<String> expected = new ArrayList<>();
+        expected.add("0:XII=12");
+        expected.add("9:I=1");
+        assertEquals(expected, scan(scanner, "XII XII, I"));
+    }
+
+    @Test
+    public void noBoundaries() {
+        ElbonianScanner scanner = new ElbonianScanner(ElbonianScanner.Boundary.NONE);
+        List<String> expected = new ArrayList<>();
+        expected.add("0:XII=12");
+        expected.add("5:C=100");
+        assertEquals(expected, scan(scanner, "XIIthCat"));
+    }
+
+    @Test
+    public void everyNumeralIsFound() {
+        ElbonianScanner scanner = new ElbonianScanner(ElbonianScanner.Boundary.WORD);
+        for (int value = ElbonianTables.MIN_VALUE; value <= ElbonianTables.MAX_VALUE; value++) {
+            String numeral = ElbonianTables.toElbonian(value);
+            List<String> expected = new ArrayList<>();
+            expected.add("1:" + numeral + "=" + value);
+            assertEquals(expected, scan(scanner, "(" + numeral + ")"));
+        }
+    }
+
+    @Test
+    public void matchesTokenizingReference() {
+        Random random = new Random(3733);
+        for (ElbonianScanner.Boundary boundary : ElbonianScanner.Boundary.values()) {
+            ElbonianScanner scanner = new ElbonianScanner(boundary);
+            for (int round = 0; round < 50; round++) {
+                String text = randomText(random, 200);
+                assertEquals(reference(boundary, text), scan(scanner, text));
+            }
+        }
+    }
+
+    @Test
+    public void sourcesAgree() throws IOException {
+        String text = randomText(new Random(1), 5000);
+        for (ElbonianScanner.Boundary boundary : ElbonianScanner.Boundary.values()) {
+            ElbonianScanner scanner = new ElbonianScanner(boundary);
+            List<String> expected = scan(scanner, text);
+
+            List<String> fromBuffer = new ArrayList<>();
+            scanner.scan(CharBuffer.wrap(text.toCharArray(), 3, text.length() - 3).slice(), (offset, length, value) ->
+                    fromBuffer.add(offset + 3 + ":" + text.substring((int) offset + 3, (int) offset + 3 + length) + "=" + value));
+            List<String> trimmed = new ArrayList<>();
+            for (String match : reference(boundary, text.substring(3))) {
+                int colon = match.indexOf(':');
+                trimmed.add((Integer.parseInt(match.substring(0, colon)) + 3) + match.substring(colon));
+            }
+            assertEquals(trimmed, fromBuffer);
+
+            // A reader that returns one character at a time splits every numeral across reads
+            Reader slow = new StringReader(text) {
+                @Override
+                public int read(char[] buffer, int offset, int length) throws IOException {
+                    return super.read(buffer, offset, Math.min(length, 1));
+                }
+            };
+            List<String> fromReader = new ArrayList<>();
+            scanner.scan(slow, (offset, length, value) ->
+                    fromReader.add(offset + ":" + text.substring((int) offset, (int) offset + length) + "=" + value));
+            assertEquals(expected, fromReader);
+
+            List<String> fromStringBuilder = new ArrayList<>();
+            scanner.scan(new StringBuilder(text), (offset, length, value) ->
+                    fromStringBuilder.add(offset + ":" + text.substring((int) offset, (int) offset + length) + "=" + value));
+            assertEquals(expected, fromStringBuilder);
+        }
+    }
+
+    @Test
+    public void fileOffsetsAreBytePositions() throws IOException {
+        // The bytes of a non-breaking space count as letters, so MCX and I are not numerals of their own
+        String text = "\u00e9 XII, \u00dcn\u00efcode MCX\u00a0I I";
+        Path file = folder.newFile().toPath();
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        Files.write(file, bytes);
+        List<String> matches = new ArrayList<>();
+        long count = new ElbonianScanner(ElbonianScanner.Boundary.WORD).scan(file, (offset, length, value) ->
+                matches.add(new String(bytes, (int) offset, length, StandardCharsets.US_ASCII) + "=" + value));
+        List<String> expected = new ArrayList<>();
+        expected.add("XII=12");
+        expected.add("I=1");
+        assertEquals(expected, matches);
+        assertEquals(2, count);
+    }
+}
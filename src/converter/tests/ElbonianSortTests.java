@@ -0,0 +1,136 @@
+package converter.tests;
+
+import converter.ElbonianArabicConverter;
+import converter.ElbonianSort;
+import converter.ElbonianTables;
+import converter.ParseResult;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Test cases for the ElbonianSort counting sorts.
+ */
+public class ElbonianSortTests {
+
+    // Sorts with a comparator that parses both numerals, putting malformed ones last, which is stable
+    private static String[] referenceSort(String[] numbers) {
+        String[] sorted = numbers.clone();
+        Arrays.sort(sorted, Comparator.comparingInt(number -> {
+            long result = ElbonianArabicConverter.tryParse(number);
+            return ParseResult.isSuccess(result) ? ParseResult.value(result) : Integer.MAX_VALUE;
+        }));
+        return sorted;
+    }
+
+    private static String[] randomNumbers(int count) {
+        Random random = new Random(3733);
+        String[] numbers = new String[count];
+        for (int i = 0; i < count; i++) {
+            int value = random.nextInt(ElbonianTables.MAX_VALUE) + 1;
+            switch (random.nextInt(4)) {
+                case 0:
+                    numbers[i] = Integer.toString(value);
+                    break;
+                case 1:
+                    numbers[i] = "IIII" + i;
+                    break;
+                default:
+                    numbers[i] = ElbonianTables.toElbonian(value);
+            }
+        }
+        return numbers;
+    }
+
+    @Test
+    public void matchesComparatorSort() throws MalformedNumberException, ValueOutOfBoundsException {
+        String[] numbers = randomNumbers(20000);
+        String[] sorted = numbers.clone();
+        ElbonianSort.sort(sorted, ElbonianSort.MalformedPolicy.LAST);
+        assertArrayEquals(referenceSort(numbers), sorted);
+    }
+
+    @Test
+    public void isStable() throws MalformedNumberException, ValueOutOfBoundsException {
+        String[] numbers = {"XII", "bad", "12", "I", " 12 ", "1", "oops", "MMECCZXXKII"};
+        ElbonianSort.sort(numbers, ElbonianSort.MalformedPolicy.FIRST);
+        assertArrayEquals(new String[]{"bad", "oops", "I", "1", "XII", "12", " 12 ", "MMECCZXXKII"}, numbers);
+    }
+
+    @Test
+    public void sortsLists() throws MalformedNumberException, ValueOutOfBoundsException {
+        String[] numbers = randomNumbers(5000);
+        for (List<String> list : Arrays.<List<String>>asList(new ArrayList<>(Arrays.asList(numbers)),
+                new LinkedList<>(Arrays.asList(numbers)))) {
+            ElbonianSort.sort(list, ElbonianSort.MalformedPolicy.LAST);
+            assertEquals(Arrays.asList(referenceSort(numbers)), list);
+        }
+    }
+
+    @Test
+    public void rejectLeavesInputUnchanged() throws MalformedNumberException {
+        String[] numbers = {"XII", "I", "3000", "IIII"};
+        try {
+            ElbonianSort.sort(numbers, ElbonianSort.MalformedPolicy.REJECT);
+            fail("3000 was accepted");
+        } catch (ValueOutOfBoundsException e) {
+            assertArrayEquals(new String[]{"XII", "I", "3000", "IIII"}, numbers);
+        }
+    }
+
+    @Test
+    public void sortsShorts() throws ValueOutOfBoundsException {
+        Random random = new Random(1);
+        short[] values = new short[10000];
+        for (int i = 0; i < values.length; i++) {
+            int value = random.nextInt(10) == 0 ? random.nextInt() : random.nextInt(ElbonianTables.MAX_VALUE) + 1;
+            values[i] = (short) value;
+        }
+        short[] inside = new short[values.length];
+        short[] outside = new short[values.length];
+        int insideCount = 0;
+        int outsideCount = 0;
+        for (short value : values) {
+            if (value >= ElbonianTables.MIN_VALUE && value <= ElbonianTables.MAX_VALUE) {
+                inside[insideCount++] = value;
+            } else {
+                outside[outsideCount++] = value;
+            }
+        }
+        Arrays.sort(inside, 0, insideCount);
+
+        short[] first = values.clone();
+        ElbonianSort.sort(first, ElbonianSort.MalformedPolicy.FIRST);
+        assertArrayEquals(Arrays.copyOf(outside, outsideCount), Arrays.copyOfRange(first, 0, outsideCount));
+        assertArrayEquals(Arrays.copyOf(inside, insideCount), Arrays.copyOfRange(first, outsideCount, values.length));
+
+        short[] last = values.clone();
+        ElbonianSort.sort(last, ElbonianSort.MalformedPolicy.LAST);
+        assertArrayEquals(Arrays.copyOf(inside, insideCount), Arrays.copyOfRange(last, 0, insideCount));
+        assertArrayEquals(Arrays.copyOf(outside, outsideCount), Arrays.copyOfRange(last, insideCount, values.length));
+
+        short[] rejected = values.clone();
+        try {
+            ElbonianSort.sort(rejected, ElbonianSort.MalformedPolicy.REJECT);
+            fail("Out of bounds values were accepted");
+        } catch (ValueOutOfBoundsException e) {
+            assertArrayEquals(values, rejected);
+            int index = 0;
+            while (values[index] >= ElbonianTables.MIN_VALUE && values[index] <= ElbonianTables.MAX_VALUE) {
+                index++;
+            }
+            assertEquals(index, e.getPosition());
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package converter.tests;
+
+import converter.ElbonianArabicConverter;
+import converter.ElbonianTables;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.junit.Test;
+
+import java.util.HashMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Test cases for the precomputed ElbonianTables.
+ */
+public class ElbonianTablesTests {
+
+    /**
+     * The original greedy Arabic to Elbonian algorithm, kept here as the reference for the tables.
+     */
+    private static String greedyElbonian(int arabicRepresentation) {
+        HashMap<Character, Integer> pointsRemaining = new HashMap<>();
+        pointsRemaining.put('M', 2000);
+        pointsRemaining.put('C', 200);
+        pointsRemaining.put('D', 300);
+        pointsRemaining.put('E', 600);
+        pointsRemaining.put('X', 20);
+        pointsRemaining.put('Y', 30);
+        pointsRemaining.put('Z', 60);
+        pointsRemaining.put('I', 2);
+        pointsRemaining.put('J', 3);
+        pointsRemaining.put('K', 6);
+        char[] symbols = {'M', 'E', 'D', 'C', 'Z', 'Y', 'X', 'K', 'J'};
+        int[] values = {1000, 600, 300, 100, 60, 30, 10, 6, 3};
+        StringBuilder elbonianRepresentation = new StringBuilder();
+        while (arabicRepresentation > 0) {
+            boolean found = false;
+            for (int i = 0; i < symbols.length && !found; i++) {
+                if (arabicRepresentation >= values[i] && pointsRemaining.get(symbols[i]) > 0) {
+                    arabicRepresentation -= values[i];
+                    pointsRemaining.put(symbols[i], pointsRemaining.get(symbols[i]) - values[i]);
+                    elbonianRepresentation.append(symbols[i]);
+                    found = true;
+                }
+            }
+            if (!found) {
+                arabicRepresentation -= 1;
+                pointsRemaining.put('I', pointsRemaining.get('I') - 1);
+                elbonianRepresentation.append('I');
+            }
+        }
+        return elbonianRepresentation.toString();
+    }
+
+    @Test
+    public void tablesMatchGreedyAlgorithm() {
+        for (int i = ElbonianTables.MIN_VALUE; i <= ElbonianTables.MAX_VALUE; i++) {
+            assertEquals(greedyElbonian(i), ElbonianTables.toElbonian(i));
+        }
+    }
+
+    @Test
+    public void converterUsesSharedTable() throws MalformedNumberException, ValueOutOfBoundsException {
+        for (int i = ElbonianTables.MIN_VALUE; i <= ElbonianTables.MAX_VALUE; i++) {
+            ElbonianArabicConverter converter = new ElbonianArabicConverter(i + "");
+            assertSame(ElbonianTables.toElbonian(i), converter.toElbonian());
+        }
+    }
+
+    @Test
+    public void symbolValues() {
+        assertEquals(1000, ElbonianTables.valueOf('M'));
+        assertEquals(600, ElbonianTables.valueOf('E'));
+        assertEquals(1, ElbonianTables.valueOf('I'));
+        assertEquals(0, ElbonianTables.valueOf('A'));
+        assertEquals(0, ElbonianTables.valueOf('\u00e9'));
+        assertEquals(9, ElbonianTables.rank('M'));
+        assertEquals(-1, ElbonianTables.rank('m'));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void belowBounds() {
+        ElbonianTables.toElbonian(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void aboveBounds() {
+        ElbonianTables.toElbonian(3000);
+    }
+}
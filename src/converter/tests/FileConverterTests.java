@@ -0,0 +1,95 @@
+package converter.tests;
+
+import converter.Direction;
+import converter.ElbonianTables;
+import converter.io.ConversionStats;
+import converter.io.FileConverter;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test cases for converting files with FileConverter.
+ */
+public class FileConverterTests {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private String convert(String input, Direction direction, boolean strict, int bufferSize, long rejected)
+            throws IOException {
+        Path in = folder.newFile().toPath();
+        Path out = folder.newFile().toPath();
+        Path rejects = folder.newFile().toPath();
+        Files.write(in, input.getBytes(StandardCharsets.US_ASCII));
+        ConversionStats stats = new FileConverter(direction, strict, bufferSize).convert(in, out, rejects);
+        assertEquals(rejected, stats.getRejected());
+        assertEquals(stats.getLines(), stats.getConverted() + stats.getRejected());
+        return new String(Files.readAllBytes(out), StandardCharsets.US_ASCII)
+                + "|" + new String(Files.readAllBytes(rejects), StandardCharsets.US_ASCII);
+    }
+
+    @Test
+    public void convertsEveryValueAcrossWindows() throws IOException {
+        StringBuilder arabic = new StringBuilder();
+        StringBuilder elbonian = new StringBuilder();
+        for (int i = ElbonianTables.MIN_VALUE; i <= ElbonianTables.MAX_VALUE; i++) {
+            arabic.append(i).append('\n');
+            elbonian.append(ElbonianTables.toElbonian(i)).append('\n');
+        }
+        // A small buffer makes lines cross the boundaries of the windows
+        assertEquals(elbonian + "|", convert(arabic.toString(), Direction.TO_ELBONIAN, true, 64, 0));
+        assertEquals(arabic + "|", convert(elbonian.toString(), Direction.TO_ARABIC, true, 67, 0));
+        assertEquals(arabic + "|", convert(elbonian.toString(), Direction.TO_ARABIC, false,
+                FileConverter.DEFAULT_BUFFER_SIZE, 0));
+    }
+
+    @Test
+    public void convertsLargeFilesWithTheSmallestBuffer() throws IOException {
+        // More windows than the operating system allows mappings, if every window were mapped
+        StringBuilder arabic = new StringBuilder();
+        StringBuilder elbonian = new StringBuilder();
+        for (int i = 0; arabic.length() < 6 << 20; i++) {
+            int value = ElbonianTables.MIN_VALUE + i % (ElbonianTables.MAX_VALUE - ElbonianTables.MIN_VALUE + 1);
+            arabic.append(value).append('\n');
+            elbonian.append(ElbonianTables.toElbonian(value)).append('\n');
+        }
+        assertEquals(elbonian + "|", convert(arabic.toString(), Direction.TO_ELBONIAN, true,
+                FileConverter.MIN_BUFFER_SIZE, 0));
+    }
+
+    @Test
+    public void writesRejectsWithLineNumbers() throws IOException {
+        String input = " 1,234 \r\nMMCD\n\n3000\nMMDZYJI\n12.5";
+        assertEquals("1234\n2394\n|2\tBAD_ORDER\t4\n3\tEMPTY\t0\n4\tOUT_OF_RANGE\t1\n6\tDECIMAL\t3\n",
+                convert(input, Direction.TO_ARABIC, false, 64, 4));
+    }
+
+    @Test
+    public void strictModeRejectsTheWrongForm() throws IOException {
+        assertEquals("XII\n|2\tWRONG_FORM\t0\n", convert("12\nXII\n", Direction.TO_ELBONIAN, true, 64, 1));
+        assertEquals("XII\nXII\n|", convert("12\nXII\n", Direction.TO_ELBONIAN, false, 64, 0));
+    }
+
+    @Test
+    public void rejectsLinesLongerThanTheBuffer() throws IOException {
+        StringBuilder input = new StringBuilder("1\n");
+        for (int i = 0; i < 200; i++) {
+            input.append(' ');
+        }
+        input.append("2\n3");
+        assertEquals("I\nJ\n|2\tTOO_LONG\t0\n", convert(input.toString(), Direction.TO_ELBONIAN, false, 64, 1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsTinyBuffers() {
+        new FileConverter(Direction.TO_ARABIC, false, 8);
+    }
+}
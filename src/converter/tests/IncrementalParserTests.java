@@ -0,0 +1,214 @@
+package converter.tests;
+
+import converter.ElbonianArabicConverter;
+import converter.ElbonianTables;
+import converter.IncrementalParser;
+import converter.ParseResult;
+import converter.exceptions.FailureReason;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test cases for parsing numerals one character at a time with IncrementalParser.
+ */
+public class IncrementalParserTests {
+
+    // Every valid numeral without spaces: the Elbonian numerals and the Arabic ones with and without a comma
+    private static Set<String> numerals() {
+        Set<String> numerals = new HashSet<>();
+        for (int i = ElbonianTables.MIN_VALUE; i <= ElbonianTables.MAX_VALUE; i++) {
+            numerals.add(ElbonianTables.toElbonian(i));
+            numerals.add(Integer.toString(i));
+            if (i >= 1000) {
+                numerals.add(i / 1000 + "," + Integer.toString(i).substring(1));
+            }
+        }
+        return numerals;
+    }
+
+    // The prefixes that can still become a valid numeral: spaces, then a prefix of a numeral, or a whole
+    // numeral followed by spaces
+    private static boolean viable(String prefix, Set<String> numeralPrefixes, Set<String> numerals) {
+        String core = prefix.replaceAll("^ +", "");
+        String trimmed = core.replaceAll(" +$", "");
+        return numeralPrefixes.contains(core) || trimmed.length() < core.length() && numerals.contains(trimmed);
+    }
+
+    private static long construct(String number) {
+        try {
+            ElbonianArabicConverter converter = new ElbonianArabicConverter(number);
+            return converter.toArabic();
+        } catch (MalformedNumberException | ValueOutOfBoundsException e) {
+            return -1;
+        }
+    }
+
+    private static IncrementalParser parse(String number) {
+        IncrementalParser parser = new IncrementalParser();
+        for (int i = 0; i < number.length(); i++) {
+            parser.accept(number.charAt(i));
+        }
+        return parser;
+    }
+
+    @Test
+    public void agreesWithTheConstructorOnEveryShortString() {
+        Set<String> numerals = numerals();
+        Set<String> numeralPrefixes = new HashSet<>();
+        for (String numeral : numerals) {
+            for (int i = 0; i <= numeral.length(); i++) {
+                numeralPrefixes.add(numeral.substring(0, i));
+            }
+        }
+        char[] alphabet = {' ', '0', '1', '2', '9', ',', '.', '-', '+', '\t', 'a', 'M', 'E', 'D', 'C', 'X', 'J', 'I'};
+        char[] chars = new char[5];
+        IncrementalParser parser = new IncrementalParser();
+        for (int length = 1; length <= chars.length; length++) {
+            int combinations = (int) Math.pow(alphabet.length, length);
+            for (int combination = 0; combination < combinations; combination++) {
+                int digits = combination;
+                for (int i = 0; i < length; i++) {
+                    chars[i] = alphabet[digits % alphabet.length];
+                    digits /= alphabet.length;
+                }
+                String number = new String(chars, 0, length);
+                parser.reset();
+                for (int i = 0; i < length; i++) {
+                    String prefix = number.substring(0, i);
+                    assertEquals(prefix + " followed by " + chars[i],
+                            viable(prefix + chars[i], numeralPrefixes, numerals), parser.isAllowed(chars[i]));
+                    assertEquals(parser.isAllowed(chars[i]), parser.accept(chars[i]));
+                }
+                long expected = construct(number);
+                long result = parser.result();
+                assertEquals(number, expected >= 0, ParseResult.isSuccess(result));
+                assertEquals(number, expected >= 0, parser.isComplete());
+                if (expected >= 0) {
+                    assertEquals(number, expected, ParseResult.value(result));
+                    assertEquals(number, expected, parser.getValue());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void acceptsEveryNumeral() {
+        IncrementalParser parser = new IncrementalParser();
+        for (String numeral : numerals()) {
+            String number = "  " + numeral + " ";
+            parser.reset();
+            for (int i = 0; i < number.length(); i++) {
+                assertTrue(number, parser.accept(number.charAt(i)));
+            }
+            long result = parser.result();
+            assertEquals(construct(number), ParseResult.value(result));
+            assertEquals(Character.isLetter(numeral.charAt(0)), ParseResult.isElbonian(result));
+            assertEquals(number.length(), parser.getPosition());
+        }
+    }
+
+    @Test
+    public void rejectsAtTheFirstBadCharacter() {
+        Object[][] cases = {
+                {"MMMMMMMMM", FailureReason.TOO_MANY_REPEATS, 2},
+                {"  EDC", FailureReason.ILLEGAL_TRIPLE, 4},
+                {"XM", FailureReason.BAD_ORDER, 1},
+                {"3,000", FailureReason.OUT_OF_RANGE, 1},
+                {"30000", FailureReason.OUT_OF_RANGE, 3},
+                {"1,0000", FailureReason.BAD_COMMAS, 5},
+                {"1,00 ", FailureReason.BAD_COMMAS, 4},
+                {"12.0", FailureReason.DECIMAL, 2},
+                {"012", FailureReason.LEADING_ZERO, 0},
+                {"-1", FailureReason.OUT_OF_RANGE, 0},
+                {"MC X", FailureReason.WHITESPACE, 3},
+                {"X\tI", FailureReason.WHITESPACE, 1},
+                {"XIIth", FailureReason.ILLEGAL_CHARACTER, 3},
+        };
+        for (Object[] test : cases) {
+            String number = (String) test[0];
+            IncrementalParser parser = parse(number);
+            assertFalse(number, parser.isViable());
+            assertEquals(number, test[1], ParseResult.reason(parser.result()));
+            assertEquals(number, test[2], ParseResult.position(parser.result()));
+        }
+        assertEquals(FailureReason.EMPTY, ParseResult.reason(parse("   ").result()));
+        assertEquals(FailureReason.BAD_COMMAS, ParseResult.reason(parse("2,99").result()));
+        assertTrue(parse("2,99").isViable());
+    }
+
+    @Test
+    public void reportsTheRunningValue() {
+        IncrementalParser parser = new IncrementalParser();
+        int[] running = {1000, 2000, 2600, 2900, 2960, 2990, 2996, 2999};
+        String numeral = "MMEDZYKJ";
+        for (int i = 0; i < numeral.length(); i++) {
+            parser.accept(numeral.charAt(i));
+            assertEquals(running[i], parser.getValue());
+        }
+        parser.reset();
+        assertEquals(0, parser.getValue());
+        for (char c : "2,99".toCharArray()) {
+            parser.accept(c);
+        }
+        assertEquals(299, parser.getValue());
+        parser.accept('M');
+        assertEquals(299, parser.getValue());
+    }
+
+    @Test
+    public void listsTheAllowedCharacters() {
+        IncrementalParser parser = new IncrementalParser();
+        assertEquals(" 123456789CDEIJKMXYZ", parser.allowedCharacters());
+        parser.accept('M');
+        assertEquals(" CDEIJKMXYZ", parser.allowedCharacters());
+        parser.accept('M');
+        assertEquals(" CDEIJKXYZ", parser.allowedCharacters());
+        parser.accept('E');
+        parser.accept('D');
+        assertEquals(" IJKXYZ", parser.allowedCharacters());
+        parser.accept(' ');
+        assertEquals(" ", parser.allowedCharacters());
+        parser.accept('X');
+        assertEquals("", parser.allowedCharacters());
+
+        parser.reset();
+        parser.accept('2');
+        assertEquals(" ,0123456789", parser.allowedCharacters());
+        parser.accept('9');
+        assertEquals(" 0123456789", parser.allowedCharacters());
+        parser.accept('9');
+        parser.accept('9');
+        assertEquals(" ", parser.allowedCharacters());
+    }
+
+    @Test
+    public void readsSplitReads() {
+        IncrementalParser parser = new IncrementalParser();
+        byte[] first = " MMEDZ".getBytes(StandardCharsets.US_ASCII);
+        byte[] second = "YKJ ".getBytes(StandardCharsets.US_ASCII);
+        assertTrue(parser.accept(ByteBuffer.wrap(first)));
+        ByteBuffer buffer = ByteBuffer.wrap(second);
+        assertTrue(parser.accept(buffer));
+        assertEquals(second.length, buffer.position());
+        assertEquals(2999, ParseResult.value(parser.result()));
+
+        parser.reset();
+        char[] chars = "xx2,9".toCharArray();
+        assertTrue(parser.accept(chars, 2, 3));
+        assertFalse(parser.isComplete());
+        assertTrue(parser.accept(new char[]{'9', '9'}, 0, 2));
+        assertEquals(2999, ParseResult.value(parser.result()));
+        assertFalse(parser.accept((byte) 0xC3));
+        assertEquals(FailureReason.ILLEGAL_CHARACTER, ParseResult.reason(parser.result()));
+    }
+}
@@ -0,0 +1,99 @@
+package converter.tests;
+
+import converter.ElbonianTables;
+import converter.NumeralCodec;
+import converter.ParseResult;
+import converter.exceptions.FailureReason;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Test cases for reading and writing numerals with NumeralCodec.
+ */
+public class NumeralCodecTests {
+
+    @Test
+    public void roundTripsEveryValue() throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(64);
+        char[] chars = new char[64];
+        StringBuilder builder = new StringBuilder();
+        for (int i = ElbonianTables.MIN_VALUE; i <= ElbonianTables.MAX_VALUE; i++) {
+            String elbonian = ElbonianTables.toElbonian(i);
+            String arabic = Integer.toString(i);
+
+            bytes.clear();
+            bytes.put((byte) ' ');
+            int length = NumeralCodec.encodeElbonian(i, bytes);
+            assertEquals(elbonian.length(), length);
+            assertEquals(i, ParseResult.value(NumeralCodec.decode(bytes, 1, length)));
+            length = NumeralCodec.encodeArabic(i, bytes);
+            assertEquals(arabic.length(), length);
+            assertEquals(i, ParseResult.value(NumeralCodec.decode(bytes, 1 + elbonian.length(), length)));
+
+            length = NumeralCodec.encodeElbonian(i, chars, 3);
+            assertEquals(elbonian, new String(chars, 3, length));
+            assertEquals(i, ParseResult.value(NumeralCodec.decode(chars, 3, length)));
+            length = NumeralCodec.encodeArabic(i, chars, 3);
+            assertEquals(arabic, new String(chars, 3, length));
+            assertEquals(i, ParseResult.value(NumeralCodec.decode(chars, 3, length)));
+
+            builder.setLength(0);
+            NumeralCodec.encodeElbonian(i, builder);
+            builder.append(',');
+            NumeralCodec.encodeArabic(i, builder);
+            assertEquals(elbonian + "," + arabic, builder.toString());
+            assertEquals(i, ParseResult.value(NumeralCodec.decode(builder, 0, elbonian.length())));
+            assertEquals(i, ParseResult.value(NumeralCodec.decode(builder, elbonian.length() + 1, builder.length())));
+        }
+    }
+
+    @Test
+    public void decodeReportsAbsolutePositions() {
+        ByteBuffer bytes = ByteBuffer.wrap("xx MMCD yy".getBytes(StandardCharsets.US_ASCII));
+        long result = NumeralCodec.decode(bytes, 2, 6);
+        assertEquals(FailureReason.BAD_ORDER, ParseResult.reason(result));
+        assertEquals(6, ParseResult.position(result));
+        assertEquals(0, bytes.position());
+
+        result = NumeralCodec.decode(" 1,234 |MDZ".toCharArray(), 0, 7);
+        assertEquals(1234, ParseResult.value(result));
+        result = NumeralCodec.decode("abc 3000", 3, 8);
+        assertEquals(FailureReason.OUT_OF_RANGE, ParseResult.reason(result));
+        assertEquals(4, ParseResult.position(result));
+    }
+
+    @Test
+    public void decodeRejectsNonAsciiBytes() {
+        ByteBuffer bytes = ByteBuffer.wrap(new byte[]{'M', (byte) 0xCD});
+        assertEquals(FailureReason.ILLEGAL_CHARACTER, ParseResult.reason(NumeralCodec.decode(bytes, 0, 2)));
+    }
+
+    @Test
+    public void encodeDoesNotWritePartialNumerals() {
+        ByteBuffer bytes = ByteBuffer.allocate(3);
+        try {
+            NumeralCodec.encodeElbonian(2999, bytes);
+            fail();
+        } catch (BufferOverflowException e) {
+            assertEquals(0, bytes.position());
+        }
+        assertEquals(3, NumeralCodec.encodeArabic(999, bytes));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void encodeRejectsOutOfBounds() {
+        NumeralCodec.encodeArabic(3000, new char[8], 0);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void decodeChecksRange() {
+        NumeralCodec.decode(new char[4], 2, 3);
+    }
+}
@@ -0,0 +1,119 @@
+package converter.tests;
+
+import converter.ElbonianTables;
+import converter.NumeralSystem;
+import converter.ParseResult;
+import converter.exceptions.FailureReason;
+import org.junit.Test;
+
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test cases for NumeralSystem definitions, including the built in Roman numerals.
+ */
+public class NumeralSystemTests {
+
+    private static final Pattern ROMAN = Pattern.compile("M{0,3}(CM|CD|D?C{0,3})(XC|XL|L?X{0,3})(IX|IV|V?I{0,3})");
+
+    private static void assertFailure(FailureReason reason, int position, long result) {
+        assertEquals(reason, ParseResult.reason(result));
+        assertEquals(position, ParseResult.position(result));
+    }
+
+    @Test
+    public void elbonianMatchesTables() {
+        NumeralSystem elbonian = NumeralSystem.ELBONIAN;
+        assertEquals(ElbonianTables.MIN_VALUE, elbonian.getMinValue());
+        assertEquals(ElbonianTables.MAX_VALUE, elbonian.getMaxValue());
+        assertEquals(ElbonianTables.MAX_LENGTH, elbonian.getMaxLength());
+        for (int value = ElbonianTables.MIN_VALUE; value <= ElbonianTables.MAX_VALUE; value++) {
+            assertEquals(ElbonianTables.toElbonian(value), elbonian.toNumeral(value));
+        }
+    }
+
+    @Test
+    public void romanMatchesRegularExpression() {
+        // Every string of Roman symbols up to six characters long
+        char[] alphabet = "IVXLCDM".toCharArray();
+        for (int length = 1; length <= 6; length++) {
+            int[] digits = new int[length];
+            char[] buffer = new char[length];
+            while (true) {
+                for (int i = 0; i < length; i++) {
+                    buffer[i] = alphabet[digits[i]];
+                }
+                String string = new String(buffer);
+                long result = NumeralSystem.ROMAN.tryParse(string);
+                assertEquals(string, ROMAN.matcher(string).matches(), ParseResult.isSuccess(result));
+                int position = length - 1;
+                while (position >= 0 && ++digits[position] == alphabet.length) {
+                    digits[position--] = 0;
+                }
+                if (position < 0) {
+                    break;
+                }
+            }
+        }
+    }
+
+    @Test
+    public void romanRoundTrips() {
+        NumeralSystem roman = NumeralSystem.ROMAN;
+        assertEquals("MCMXCIV", roman.toNumeral(1994));
+        assertEquals("MMMDCCCLXXXVIII", roman.toNumeral(3888));
+        assertEquals(15, roman.getMaxLength());
+        for (int value = roman.getMinValue(); value <= roman.getMaxValue(); value++) {
+            String numeral = roman.toNumeral(value);
+            assertTrue(numeral, ROMAN.matcher(numeral).matches());
+            long result = roman.tryParse(" " + numeral + " ");
+            assertEquals(value, ParseResult.value(result));
+            assertTrue(ParseResult.isElbonian(result));
+            assertEquals(value, ParseResult.value(roman.tryParse(Integer.toString(value))));
+        }
+    }
+
+    @Test
+    public void romanFailureReasons() {
+        NumeralSystem roman = NumeralSystem.ROMAN;
+        assertFailure(FailureReason.BAD_ORDER, 2, roman.tryParse("XIIX"));
+        assertFailure(FailureReason.BAD_ORDER, 1, roman.tryParse("CCM"));
+        assertFailure(FailureReason.TOO_MANY_REPEATS, 3, roman.tryParse("IIII"));
+        assertFailure(FailureReason.ILLEGAL_COMBINATION, 2, roman.tryParse("CMC"));
+        assertFailure(FailureReason.ILLEGAL_CHARACTER, 1, roman.tryParse("XJ"));
+        assertFailure(FailureReason.OUT_OF_RANGE, 0, roman.tryParse("4000"));
+        assertFailure(FailureReason.EMPTY, -1, roman.tryParse("  "));
+    }
+
+    @Test
+    public void customSystem() {
+        // Tally marks with a five and a twenty-five
+        NumeralSystem tally = NumeralSystem.builder("Tally")
+                .symbol("/", 1, 4)
+                .symbol("+", 5, 4)
+                .symbol("#", 25, 3)
+                .bounds(1, 99)
+                .build();
+        assertEquals("###++++////", tally.toNumeral(99));
+        assertEquals(42, ParseResult.value(tally.tryParse("#+++//")));
+        assertFailure(FailureReason.TOO_MANY_REPEATS, 4, tally.tryParse("/////"));
+        assertFailure(FailureReason.BAD_ORDER, 1, tally.tryParse("/+"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unrepresentableValue() {
+        NumeralSystem.builder("Gaps").symbol("A", 1, 1).symbol("B", 5, 1).bounds(1, 6).build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void undefinedForbiddenSymbol() {
+        NumeralSystem.builder("Typo").symbol("A", 1, 3).forbid("A", "B").bounds(1, 3).build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void digitSymbol() {
+        NumeralSystem.builder("Digits").symbol("1", 1, 3);
+    }
+}
@@ -0,0 +1,207 @@
+package converter.tests;
+
+import converter.ElbonianArabicConverter;
+import converter.ElbonianTables;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import converter.io.PackedColumnReader;
+import converter.io.PackedColumnWriter;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Test cases for writing and reading packed column files with PackedColumnWriter and PackedColumnReader.
+ */
+public class PackedColumnTests {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path write(int[] values, int blockSize) throws IOException, ValueOutOfBoundsException {
+        Path file = folder.newFile().toPath();
+        try (PackedColumnWriter writer = new PackedColumnWriter(file, blockSize)) {
+            for (int value : values) {
+                writer.write(value);
+            }
+            assertEquals(values.length, writer.size());
+        }
+        return file;
+    }
+
+    private static int[] randomValues(int count, long seed) {
+        Random random = new Random(seed);
+        int[] values = new int[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = random.nextInt(ElbonianTables.MAX_VALUE) + 1;
+        }
+        return values;
+    }
+
+    @Test
+    public void roundTripsEveryNumeral() throws IOException, MalformedNumberException, ValueOutOfBoundsException {
+        Path file = folder.newFile().toPath();
+        try (PackedColumnWriter writer = new PackedColumnWriter(file, 64)) {
+            for (int value = ElbonianTables.MIN_VALUE; value <= ElbonianTables.MAX_VALUE; value++) {
+                writer.write(new ElbonianArabicConverter(Integer.toString(value)).toElbonian());
+            }
+        }
+        try (PackedColumnReader reader = new PackedColumnReader(file)) {
+            assertEquals(ElbonianTables.MAX_VALUE, reader.size());
+            assertEquals(1, reader.getVersion());
+            for (int value = ElbonianTables.MIN_VALUE; value <= ElbonianTables.MAX_VALUE; value++) {
+                ElbonianArabicConverter converter = new ElbonianArabicConverter(Integer.toString(value));
+                assertEquals(converter.toArabic(), reader.get(value - 1));
+                assertEquals(converter.toElbonian(), reader.getElbonian(value - 1));
+            }
+        }
+        // Two values take three bytes, next to the header and the smallest and largest value of every block
+        assertEquals(32 + 47 * (4 + 96), Files.size(file));
+    }
+
+    @Test
+    public void bulkReadsMatchSingleReads() throws IOException, ValueOutOfBoundsException {
+        int[] values = randomValues(10001, 1);
+        for (int blockSize : new int[]{2, 6, 1024, PackedColumnWriter.DEFAULT_BLOCK_SIZE}) {
+            try (PackedColumnReader reader = new PackedColumnReader(write(values, blockSize))) {
+                assertEquals(values.length, reader.size());
+                assertEquals(blockSize, reader.getBlockSize());
+                int[] all = new int[values.length];
+                reader.read(0, all, 0, values.length);
+                assertArrayEquals(values, all);
+                // Runs that start and end inside blocks and inside pairs
+                int[] part = new int[2000];
+                reader.read(333, part, 1, 1999);
+                for (int i = 0; i < 1999; i++) {
+                    assertEquals(values[333 + i], part[1 + i]);
+                }
+                for (int i = 0; i < values.length; i += 7) {
+                    assertEquals(values[i], reader.get(i));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void blocksRecordTheirRange() throws IOException, ValueOutOfBoundsException {
+        int[] values = randomValues(1000, 2);
+        try (PackedColumnReader reader = new PackedColumnReader(write(values, 100))) {
+            assertEquals(10, reader.getBlockCount());
+            for (int block = 0; block < 10; block++) {
+                int min = Integer.MAX_VALUE;
+                int max = Integer.MIN_VALUE;
+                for (int i = block * 100; i < block * 100 + 100; i++) {
+                    min = Math.min(min, values[i]);
+                    max = Math.max(max, values[i]);
+                }
+                assertEquals(min, reader.getBlockMin(block));
+                assertEquals(max, reader.getBlockMax(block));
+            }
+        }
+    }
+
+    @Test
+    public void queriesFindEveryValueInRange() throws IOException, ValueOutOfBoundsException {
+        // Slowly rising values, so that most blocks can be skipped
+        int[] values = new int[50001];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1 + (int) ((long) i * (ElbonianTables.MAX_VALUE - 3) / values.length) + i % 3;
+        }
+        try (PackedColumnReader reader = new PackedColumnReader(write(values, 256))) {
+            for (int[] range : new int[][]{{1, 1}, {100, 200}, {2990, 3000}, {0, 5000}, {3000, 4000}}) {
+                List<String> expected = new ArrayList<>();
+                for (int i = 0; i < values.length; i++) {
+                    if (values[i] >= range[0] && values[i] <= range[1]) {
+                        expected.add(i + "=" + values[i]);
+                    }
+                }
+                List<String> found = new ArrayList<>();
+                long count = reader.query(range[0], range[1], (index, value) -> found.add(index + "=" + value));
+                assertEquals(expected, found);
+                assertEquals(expected.size(), count);
+            }
+        }
+    }
+
+    @Test
+    public void emptyColumn() throws IOException, ValueOutOfBoundsException {
+        try (PackedColumnReader reader = new PackedColumnReader(write(new int[0], 16))) {
+            assertEquals(0, reader.size());
+            assertEquals(0, reader.getBlockCount());
+            assertEquals(0, reader.query(1, ElbonianTables.MAX_VALUE, (index, value) -> fail()));
+        }
+    }
+
+    @Test
+    public void rejectsValuesThatCannotBeRepresented() throws IOException {
+        try (PackedColumnWriter writer = new PackedColumnWriter(folder.newFile().toPath(), 16)) {
+            writer.write(3000);
+            fail();
+        } catch (ValueOutOfBoundsException e) {
+            assertTrue(e.getMessage().contains("3000"));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void blockSizeMustBeEven() throws IOException {
+        new PackedColumnWriter(folder.newFile().toPath(), 15).close();
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getOutsideTheColumn() throws IOException, ValueOutOfBoundsException {
+        try (PackedColumnReader reader = new PackedColumnReader(write(new int[]{1, 2, 3}, 16))) {
+            reader.get(3);
+        }
+    }
+
+    @Test
+    public void rejectsOtherFilesAndVersions() throws IOException, ValueOutOfBoundsException {
+        Path text = folder.newFile().toPath();
+        Files.write(text, "XII\nMCX\nI\nIIII\nMMECCZXXKII\nDDDDDDDDDDDD\n".getBytes(StandardCharsets.US_ASCII));
+        assertUnreadable(text, "not a packed column file");
+
+        Path file = write(new int[]{1, 2, 3}, 16);
+        byte[] bytes = Files.readAllBytes(file);
+        ByteBuffer.wrap(bytes).putShort(4, (short) 2);
+        Files.write(file, bytes);
+        assertUnreadable(file, "version 2");
+
+        Path truncated = write(randomValues(100, 3), 16);
+        bytes = Files.readAllBytes(truncated);
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 1));
+        assertUnreadable(truncated, "truncated");
+
+        // A corrupt count so large that the size it implies overflows a long
+        Path huge = write(new int[]{1, 2, 3}, 2);
+        bytes = Files.readAllBytes(huge);
+        for (long count : new long[]{1L << 62, Long.MAX_VALUE, -1}) {
+            ByteBuffer.wrap(bytes).putLong(12, count);
+            Files.write(huge, bytes);
+            assertUnreadable(huge, "truncated");
+        }
+    }
+
+    private static void assertUnreadable(Path file, String message) {
+        try {
+            new PackedColumnReader(file).close();
+            fail();
+        } catch (IOException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains(message));
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package converter.tests;
+
+import converter.BatchConverter;
+import converter.Direction;
+import converter.ElbonianTables;
+import converter.exceptions.FailureReason;
+import converter.io.ConversionStats;
+import converter.io.FileConverter;
+import converter.io.ParallelFileConverter;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test cases that compare the parallel conversions with the sequential ones.
+ */
+public class ParallelConversionTests {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static String randomLines(int count) {
+        Random random = new Random(3733);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            int value = random.nextInt(3100);
+            switch (random.nextInt(5)) {
+                case 0:
+                    builder.append(value > 0 && value <= ElbonianTables.MAX_VALUE ? ElbonianTables.toElbonian(value) : "MMM");
+                    break;
+                case 1:
+                    builder.append("  ").append(value).append("\r");
+                    break;
+                case 2:
+                    // Longer than the 64 byte window
+                    for (int j = 0; j < 70; j++) {
+                        builder.append(' ');
+                    }
+                    break;
+                default:
+                    builder.append(value);
+            }
+            builder.append('\n');
+        }
+        return builder.toString();
+    }
+
+    @Test
+    public void fileOutputIsIdenticalToSequential() throws IOException {
+        Path in = folder.newFile().toPath();
+        Files.write(in, randomLines(2000).getBytes(StandardCharsets.US_ASCII));
+        FileConverter converter = new FileConverter(Direction.TO_ELBONIAN, false, 64);
+        Path out = folder.newFile().toPath();
+        Path rejects = folder.newFile().toPath();
+        ConversionStats sequential = converter.convert(in, out, rejects);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int chunkSize : new int[]{1, 100, 4096, ParallelFileConverter.DEFAULT_CHUNK_SIZE}) {
+                Path parallelOut = folder.newFile().toPath();
+                Path parallelRejects = folder.newFile().toPath();
+                ConversionStats parallel = new ParallelFileConverter(converter, pool, chunkSize)
+                        .convert(in, parallelOut, parallelRejects);
+                assertArrayEquals(Files.readAllBytes(out), Files.readAllBytes(parallelOut));
+                assertArrayEquals(Files.readAllBytes(rejects), Files.readAllBytes(parallelRejects));
+                assertEquals(sequential.toString(), parallel.toString());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void arraysAreIdenticalToSequential() {
+        Random random = new Random(1);
+        int count = 100000;
+        int[] values = new int[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = random.nextInt(3100);
+        }
+        char[] out = new char[count * ElbonianTables.MAX_LENGTH];
+        int[] offsets = new int[count + 1];
+        FailureReason[] reasons = new FailureReason[count];
+        int failures = BatchConverter.toElbonian(values, out, offsets, reasons);
+
+        char[] parallelOut = new char[out.length];
+        int[] parallelOffsets = new int[count + 1];
+        FailureReason[] parallelReasons = new FailureReason[count];
+        assertEquals(failures, BatchConverter.parallelToElbonian(values, parallelOut, parallelOffsets, parallelReasons));
+        assertArrayEquals(out, parallelOut);
+        assertArrayEquals(offsets, parallelOffsets);
+        assertArrayEquals(reasons, parallelReasons);
+
+        String[] numerals = new String[count];
+        for (int i = 0; i < count; i++) {
+            numerals[i] = new String(out, offsets[i], offsets[i + 1] - offsets[i]);
+        }
+        int[] parsed = new int[count];
+        int[] parallelParsed = new int[count];
+        Arrays.fill(reasons, null);
+        Arrays.fill(parallelReasons, null);
+        failures = BatchConverter.toArabic(numerals, parsed, reasons);
+        assertEquals(failures, BatchConverter.parallelToArabic(numerals, parallelParsed, parallelReasons));
+        assertArrayEquals(parsed, parallelParsed);
+        assertArrayEquals(reasons, parallelReasons);
+    }
+}
@@ -0,0 +1,108 @@
+package converter.tests;
+
+import converter.ElbonianArabicConverter;
+import converter.ParseCache;
+import converter.ParseResult;
+import converter.exceptions.FailureReason;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test cases for the ParseCache of parse results.
+ */
+public class ParseCacheTests {
+
+    @Test
+    public void cachesSuccessesAndFailures() throws MalformedNumberException, ValueOutOfBoundsException {
+        ParseCache cache = new ParseCache(10);
+        assertEquals(1234, cache.parse(" 1,234 "));
+        assertEquals(1234, cache.parse(" 1,234 "));
+        long failure = cache.tryParse("IIII");
+        assertEquals(failure, cache.tryParse("IIII"));
+        assertEquals(FailureReason.TOO_MANY_REPEATS, ParseResult.reason(failure));
+        assertEquals(2, cache.getHits());
+        assertEquals(2, cache.getMisses());
+        assertEquals(2, cache.size());
+    }
+
+    @Test(expected = MalformedNumberException.class)
+    public void cachedFailuresThrow() throws MalformedNumberException, ValueOutOfBoundsException {
+        ParseCache cache = new ParseCache(10);
+        cache.tryParse("IIII");
+        cache.parse("IIII");
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsed() {
+        ParseCache cache = new ParseCache(3);
+        cache.tryParse("1");
+        cache.tryParse("2");
+        cache.tryParse("3");
+        // Hit 1 and 3, so 2 is evicted to make room for 4
+        cache.tryParse("1");
+        cache.tryParse("3");
+        cache.tryParse("4");
+        assertEquals(1, cache.getEvictions());
+        assertEquals(3, cache.size());
+        long misses = cache.getMisses();
+        cache.tryParse("1");
+        cache.tryParse("3");
+        cache.tryParse("4");
+        assertEquals(misses, cache.getMisses());
+        cache.tryParse("2");
+        assertEquals(misses + 1, cache.getMisses());
+    }
+
+    @Test
+    public void doesNotCacheLongInputs() {
+        ParseCache cache = new ParseCache(10);
+        StringBuilder number = new StringBuilder();
+        for (int i = 0; i <= ParseCache.MAX_KEY_LENGTH; i++) {
+            number.append(' ');
+        }
+        number.append('I');
+        assertEquals(1, ParseResult.value(cache.tryParse(number.toString())));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void concurrentLookupsAgreeWithTryParse() throws Exception {
+        ParseCache cache = new ParseCache(500);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                int seed = thread;
+                futures.add(executor.submit(() -> {
+                    Random random = new Random(seed);
+                    for (int i = 0; i < 50000; i++) {
+                        int value = random.nextInt(3200) - 100;
+                        String number = random.nextBoolean() ? " " + value + " " : value + "X";
+                        assertEquals(number, ElbonianArabicConverter.tryParse(number), cache.tryParse(number));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertTrue(cache.size() <= cache.getMaximumSize());
+        assertEquals(8 * 50000, cache.getHits() + cache.getMisses());
+        // Two threads can miss the same input at once, but only one of them caches it
+        assertTrue(cache.getMisses() >= cache.size() + cache.getEvictions());
+    }
+}
@@ -0,0 +1,115 @@
+package converter.tests;
+
+import converter.ElbonianArabicConverter;
+import converter.ElbonianTables;
+import converter.StatelessConverter;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Stress tests that share converters between threads and check every answer against a fresh conversion.
+ */
+public class ThreadSafetyTests {
+
+    private static final int THREADS = 8;
+    private static final int ROUNDS = 20;
+
+    private static String[] arabic() {
+        String[] numbers = new String[ElbonianTables.MAX_VALUE];
+        for (int i = 0; i < numbers.length; i++) {
+            numbers[i] = Integer.toString(i + 1);
+        }
+        return numbers;
+    }
+
+    // Runs the task on every thread at once and fails with the first error any of them threw
+    private static void runConcurrently(Callable<Void> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void repeatedCallsAgree() throws MalformedNumberException, ValueOutOfBoundsException {
+        for (String number : arabic()) {
+            ElbonianArabicConverter converter = new ElbonianArabicConverter(number);
+            String elbonian = converter.toElbonian();
+            for (int i = 0; i < 3; i++) {
+                assertEquals(elbonian, converter.toElbonian());
+                assertEquals(Integer.parseInt(number), converter.toArabic());
+                assertEquals(elbonian, StatelessConverter.INSTANCE.toElbonian(number));
+            }
+        }
+    }
+
+    @Test
+    public void sharedSingletonAgreesWithFreshConverters() throws Exception {
+        String[] numbers = arabic();
+        String[] expected = new String[numbers.length];
+        for (int i = 0; i < numbers.length; i++) {
+            expected[i] = new ElbonianArabicConverter(numbers[i]).toElbonian();
+        }
+        StatelessConverter converter = StatelessConverter.INSTANCE;
+        runConcurrently(() -> {
+            for (int round = 0; round < ROUNDS; round++) {
+                for (int i = 0; i < numbers.length; i++) {
+                    assertEquals(expected[i], converter.toElbonian(numbers[i]));
+                    assertEquals(expected[i], converter.toElbonian(i + 1));
+                    assertEquals(i + 1, converter.toArabic(expected[i]));
+                }
+                try {
+                    converter.toArabic("IIII");
+                    fail("IIII was accepted");
+                } catch (MalformedNumberException e) {
+                    // Expected
+                }
+            }
+            return null;
+        });
+    }
+
+    @Test
+    public void sharedInstancesAgreeWithFreshConverters() throws Exception {
+        String[] numbers = arabic();
+        ElbonianArabicConverter[] shared = new ElbonianArabicConverter[numbers.length];
+        for (int i = 0; i < numbers.length; i++) {
+            shared[i] = new ElbonianArabicConverter(numbers[i]);
+        }
+        runConcurrently(() -> {
+            for (int round = 0; round < ROUNDS; round++) {
+                for (int i = 0; i < numbers.length; i++) {
+                    String elbonian = shared[i].toElbonian();
+                    assertEquals(new ElbonianArabicConverter(numbers[i]).toElbonian(), elbonian);
+                    assertEquals(i + 1, shared[i].toArabic());
+                }
+            }
+            return null;
+        });
+    }
+}
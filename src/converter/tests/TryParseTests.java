@@ -0,0 +1,134 @@
+package converter.tests;
+
+import converter.ElbonianArabicConverter;
+import converter.ParseResult;
+import converter.exceptions.FailureReason;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Test cases for the exception free ElbonianArabicConverter.tryParse API.
+ */
+public class TryParseTests {
+
+    private static void assertFailure(String number, FailureReason reason, int position) {
+        long result = ElbonianArabicConverter.tryParse(number);
+        assertFalse(ParseResult.isSuccess(result));
+        assertEquals(reason, ParseResult.reason(result));
+        assertEquals(position, ParseResult.position(result));
+        assertEquals(-1, ParseResult.value(result));
+    }
+
+    @Test
+    public void parsesArabic() {
+        long result = ElbonianArabicConverter.tryParse(" 1,234 ");
+        assertTrue(ParseResult.isSuccess(result));
+        assertFalse(ParseResult.isElbonian(result));
+        assertEquals(1234, ParseResult.value(result));
+        assertNull(ParseResult.reason(result));
+        assertEquals(-1, ParseResult.position(result));
+    }
+
+    @Test
+    public void parsesElbonian() {
+        long result = ElbonianArabicConverter.tryParse("MMDZYJI ");
+        assertTrue(ParseResult.isSuccess(result));
+        assertTrue(ParseResult.isElbonian(result));
+        assertEquals(2394, ParseResult.value(result));
+    }
+
+    @Test
+    public void reportsReasons() {
+        assertFailure("", FailureReason.EMPTY, -1);
+        assertFailure("   ", FailureReason.EMPTY, -1);
+        assertFailure(" 9 9", FailureReason.WHITESPACE, 2);
+        assertFailure("\t100", FailureReason.WHITESPACE, 0);
+        assertFailure("MMA", FailureReason.ILLEGAL_CHARACTER, 2);
+        assertFailure("12abc", FailureReason.ILLEGAL_CHARACTER, 2);
+        assertFailure("1E3", FailureReason.ILLEGAL_CHARACTER, 1);
+        assertFailure("MMCD", FailureReason.BAD_ORDER, 3);
+        assertFailure("MMM", FailureReason.TOO_MANY_REPEATS, 2);
+        assertFailure(" MMDD", FailureReason.TOO_MANY_REPEATS, 4);
+        assertFailure("MMEDC", FailureReason.ILLEGAL_TRIPLE, 4);
+        assertFailure("ZYX", FailureReason.ILLEGAL_TRIPLE, 2);
+        assertFailure("KJI", FailureReason.ILLEGAL_TRIPLE, 2);
+        assertFailure("1,2,3,4", FailureReason.BAD_COMMAS, 3);
+        assertFailure("01", FailureReason.LEADING_ZERO, 0);
+        assertFailure("12.5", FailureReason.DECIMAL, 2);
+        assertFailure(" 3000", FailureReason.OUT_OF_RANGE, 1);
+        assertFailure("0", FailureReason.OUT_OF_RANGE, 0);
+        assertFailure("-1", FailureReason.OUT_OF_RANGE, 0);
+        assertFailure("4294967297", FailureReason.OUT_OF_RANGE, 0);
+    }
+
+    @Test
+    public void arabicEdgeCases() {
+        assertEquals(1000, ParseResult.value(ElbonianArabicConverter.tryParse("1,000")));
+        assertEquals(2999, ParseResult.value(ElbonianArabicConverter.tryParse("2,999")));
+        assertFailure("1234,567", FailureReason.BAD_COMMAS, 3);
+        assertFailure("1,00", FailureReason.BAD_COMMAS, 3);
+        assertFailure("1,", FailureReason.BAD_COMMAS, 1);
+        assertFailure(",100", FailureReason.BAD_COMMAS, 0);
+        assertFailure("-1,000", FailureReason.BAD_COMMAS, 0);
+        assertFailure("1,000.5", FailureReason.BAD_COMMAS, 5);
+        assertFailure("0,001", FailureReason.LEADING_ZERO, 0);
+        assertFailure("0,000", FailureReason.OUT_OF_RANGE, 0);
+        assertFailure("00", FailureReason.OUT_OF_RANGE, 0);
+        assertFailure("-0", FailureReason.OUT_OF_RANGE, 0);
+        assertFailure("0.5", FailureReason.OUT_OF_RANGE, 0);
+        assertFailure("3000.5", FailureReason.OUT_OF_RANGE, 0);
+        assertFailure("99999999999999999999", FailureReason.OUT_OF_RANGE, 0);
+        assertFailure("1.", FailureReason.DECIMAL, 1);
+        assertFailure("12-", FailureReason.ILLEGAL_CHARACTER, 2);
+        assertFailure("-", FailureReason.ILLEGAL_CHARACTER, 0);
+        assertFailure("+5", FailureReason.ILLEGAL_CHARACTER, 0);
+        assertFailure("\u0661\u0662", FailureReason.ILLEGAL_CHARACTER, 0);
+    }
+
+    @Test
+    public void agreesWithConstructor() throws MalformedNumberException, ValueOutOfBoundsException {
+        for (int i = 1; i <= 2999; i++) {
+            String elbonian = new ElbonianArabicConverter(i + "").toElbonian();
+            assertEquals(i, ParseResult.value(ElbonianArabicConverter.tryParse(i + "")));
+            assertEquals(i, ParseResult.value(ElbonianArabicConverter.tryParse(elbonian)));
+        }
+    }
+
+    @Test
+    public void constructorThrowsReasonCodes() throws ValueOutOfBoundsException {
+        try {
+            new ElbonianArabicConverter("MMEDC");
+            fail();
+        } catch (MalformedNumberException e) {
+            assertEquals(FailureReason.ILLEGAL_TRIPLE, e.getReason());
+            assertEquals(4, e.getPosition());
+            assertEquals(0, e.getStackTrace().length);
+        }
+    }
+
+    @Test
+    public void constructorThrowsOutOfBounds() throws MalformedNumberException {
+        try {
+            new ElbonianArabicConverter("3000");
+            fail();
+        } catch (ValueOutOfBoundsException e) {
+            assertEquals(FailureReason.OUT_OF_RANGE, e.getReason());
+            assertEquals(0, e.getStackTrace().length);
+        }
+    }
+
+    @Test
+    public void messageConstructorKeepsStackTrace() {
+        MalformedNumberException e = new MalformedNumberException("TEST");
+        assertNull(e.getReason());
+        assertEquals(-1, e.getPosition());
+        assertTrue(e.getStackTrace().length > 0);
+    }
+}
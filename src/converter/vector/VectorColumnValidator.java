@@ -0,0 +1,129 @@
+package converter.vector;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Validates fixed width columns of ASCII Elbonian numerals with the Vector API, for ColumnValidator. As many
+ * whole fields as fit are loaded into one vector, every byte is mapped to the rank of its symbol, and the
+ * rules become lane wise comparisons of the ranks with the ranks one and two lanes further on: a rank may not
+ * be smaller than the next one, a symbol that may appear once may not equal the next one, no three ranks in
+ * a row may be equal, and no three ranks in a row may be an illegal triple. The padding ranks below every
+ * symbol, so a symbol after padding breaks the order. Comparisons that would cross into the next field are
+ * masked out, and the fields are only looked at one by one when some lane of the vector is bad.
+ * <p>
+ * This class is compiled for the jdk.incubator.vector module of JDK 17 and is only loaded when the module
+ * is present.
+ *
+ * @version 10/16/26
+ */
+public final class VectorColumnValidator {
+
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+
+    // The ranks of the largest symbols of the illegal triples KJI, ZYX and EDC
+    private static final byte KJI = 2;
+    private static final byte ZYX = 5;
+    private static final byte EDC = 8;
+
+    private static final byte PADDING = -1;
+    private static final byte ILLEGAL = 64;
+
+    private VectorColumnValidator() {
+    }
+
+    /**
+     * Validates the fields of a column that can be checked a whole vector at a time, which ColumnValidator
+     * has checked the bounds of. The fields that are left over are for the caller to check.
+     *
+     * @param column The bytes of the column
+     * @param offset The index of the first byte of the first field
+     * @param width  The number of bytes of every field
+     * @param count  The number of fields
+     * @param valid  Receives whether every field that is checked is valid
+     * @return The number of fields that are not valid in the high 32 bits and the number of fields checked,
+     * which are the first ones, in the low 32 bits
+     */
+    public static long validate(byte[] column, int offset, int width, int count, boolean[] valid) {
+        int lanes = SPECIES.length();
+        if (width > lanes) {
+            return 0;
+        }
+        int fieldsPerVector = lanes / width;
+        int span = fieldsPerVector * width;
+        // The position of every lane in its field, or width for the lanes after the last whole field
+        byte[] positions = new byte[lanes];
+        for (int lane = 0; lane < lanes; lane++) {
+            positions[lane] = (byte) (lane < span ? lane % width : width);
+        }
+        ByteVector position = ByteVector.fromArray(SPECIES, positions, 0);
+        VectorMask<Byte> first = position.eq((byte) 0);
+        VectorMask<Byte> inField = position.lt((byte) width);
+        VectorMask<Byte> hasNext = position.lt((byte) (width - 1));
+        VectorMask<Byte> hasTwoNext = position.lt((byte) (width - 2));
+        // The lanes of every field. VectorMask.toLong would be simpler, but JDK 17 boxes the mask for it. A
+        // generic array can only be created raw, and every element is a mask of SPECIES.
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        VectorMask<Byte>[] fieldLanes = new VectorMask[fieldsPerVector];
+        for (int k = 0; k < fieldsPerVector; k++) {
+            boolean[] lanesOfField = new boolean[lanes];
+            for (int lane = k * width; lane < (k + 1) * width; lane++) {
+                lanesOfField[lane] = true;
+            }
+            fieldLanes[k] = VectorMask.fromArray(SPECIES, lanesOfField, 0);
+        }
+
+        int failures = 0;
+        int field = 0;
+        while (field + fieldsPerVector <= count && offset + field * width + lanes <= column.length) {
+            ByteVector bytes = ByteVector.fromArray(SPECIES, column, offset + field * width);
+            // Written out rather than looped over, so that no vector has to be boxed between iterations
+            ByteVector rank = ByteVector.broadcast(SPECIES, ILLEGAL)
+                    .blend(PADDING, bytes.eq((byte) ' '))
+                    .blend((byte) 0, bytes.eq((byte) 'I'))
+                    .blend((byte) 1, bytes.eq((byte) 'J'))
+                    .blend((byte) 2, bytes.eq((byte) 'K'))
+                    .blend((byte) 3, bytes.eq((byte) 'X'))
+                    .blend((byte) 4, bytes.eq((byte) 'Y'))
+                    .blend((byte) 5, bytes.eq((byte) 'Z'))
+                    .blend((byte) 6, bytes.eq((byte) 'C'))
+                    .blend((byte) 7, bytes.eq((byte) 'D'))
+                    .blend((byte) 8, bytes.eq((byte) 'E'))
+                    .blend((byte) 9, bytes.eq((byte) 'M'));
+            // The symbols that may appear only once
+            VectorMask<Byte> single = bytes.eq((byte) 'J').or(bytes.eq((byte) 'K'))
+                    .or(bytes.eq((byte) 'Y')).or(bytes.eq((byte) 'Z'))
+                    .or(bytes.eq((byte) 'D')).or(bytes.eq((byte) 'E'));
+            ByteVector next = rank.slice(1);
+            ByteVector twoNext = rank.slice(2);
+
+            VectorMask<Byte> bad = rank.eq(ILLEGAL)
+                    .or(first.and(rank.eq(PADDING)))
+                    .or(hasNext.and(rank.lt(next)));
+            VectorMask<Byte> repeated = hasNext.and(rank.eq(next)).and(rank.compare(VectorOperators.GE, (byte) 0));
+            bad = bad.or(repeated.and(single)).or(repeated.and(hasTwoNext).and(next.eq(twoNext)));
+            VectorMask<Byte> tripleTop = rank.eq(KJI).or(rank.eq(ZYX)).or(rank.eq(EDC));
+            bad = bad.or(tripleTop.and(hasTwoNext)
+                    .and(rank.sub(next).eq((byte) 1))
+                    .and(next.sub(twoNext).eq((byte) 1)));
+
+            if (bad.and(inField).anyTrue()) {
+                for (int k = 0; k < fieldsPerVector; k++) {
+                    boolean ok = !bad.and(fieldLanes[k]).anyTrue();
+                    valid[field + k] = ok;
+                    if (!ok) {
+                        failures++;
+                    }
+                }
+            } else {
+                for (int k = 0; k < fieldsPerVector; k++) {
+                    valid[field + k] = true;
+                }
+            }
+            field += fieldsPerVector;
+        }
+        return (long) failures << 32 | field;
+    }
+}